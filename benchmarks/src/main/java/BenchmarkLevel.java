@@ -0,0 +1,121 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * A class to build synthetic levels of a given size for the benchmarks.
+ * Objects are scattered ahead of the player with a fixed density, so a level of more objects is a longer level
+ * rather than a more crowded one. Levels of enemies and coins also crowd a share of them around the player, so
+ * collision detection has work that grows with the level. The positions are derived from a fixed seed, so every run
+ * measures the same level.
+ * The benchmarks must be run from the repository root, where the game's res directory is.
+ */
+public class BenchmarkLevel {
+    private static final long SEED = 20003;
+    private static final int PLAYER_X = 100;
+    private static final int FIRST_X = 1000;
+    private static final int SPACING = 20;  // pixels of level length per object
+    private static final int MIN_Y = 200;
+    private static final int MAX_Y = 600;
+
+    /**
+     * One in NEAR_SHARE enemies and coins is placed in the collision grid cells around the player, X from 0 to 256 and
+     * Y from 512 to 768, but above the player by more than any collision range, so none is ever collided with.
+     */
+    private static final int NEAR_SHARE = 10;
+    private static final int NEAR_MIN_X = 0, NEAR_MAX_X = 256;
+    private static final int NEAR_MIN_Y = 512, NEAR_MAX_Y = 620;
+
+    /**
+     * Reads the game's configuration, with a fixed random seed so object movement is repeatable.
+     * @return GameConfig object of res/app.properties.
+     */
+    public static GameConfig config() {
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        gameProps.setProperty("randomSeed", Long.toString(SEED));
+        return new GameConfig(gameProps, IOUtils.readPropertiesFile("res/message_en.properties"));
+    }
+
+    /**
+     * Scatters objects ahead of the player.
+     * @param count: number of positions.
+     * @param seed: long value to derive the positions from.
+     * @return 2D int array of X and Y positions.
+     */
+    public static int[][] scatter(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] positions = new int[count][];
+        for (int i = 0; i < count; i++) {
+            positions[i] = new int[] {FIRST_X + random.nextInt(Math.max(1, count * SPACING)),
+                    random.nextInt(MIN_Y, MAX_Y)};
+        }
+        return positions;
+    }
+
+    /**
+     * Scatters objects around the player, out of its reach.
+     * @param count: number of positions.
+     * @param seed: long value to derive the positions from.
+     * @return 2D int array of X and Y positions.
+     */
+    public static int[][] scatterNear(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] positions = new int[count][];
+        for (int i = 0; i < count; i++) {
+            positions[i] = new int[] {random.nextInt(NEAR_MIN_X, NEAR_MAX_X), random.nextInt(NEAR_MIN_Y, NEAR_MAX_Y)};
+        }
+        return positions;
+    }
+
+    /**
+     * Builds the positions of a level of the given number of enemies and coins, half of each.
+     * One in NEAR_SHARE of each is placed around the player, the rest ahead of it.
+     * @param count: number of enemies and coins.
+     * @return CSVData of the level.
+     */
+    public static CSVData level(int count) {
+        int[][][] positions = new int[EntityRegistry.size()][][];
+        positions[EntityRegistry.PLATFORM.getId()] = new int[][] {{3000, 745}};
+        positions[EntityRegistry.PLAYER.getId()] = new int[][] {{PLAYER_X, 687}};
+        positions[EntityRegistry.END_FLAG.getId()] = new int[][] {{FIRST_X + count * SPACING, 670}};
+        positions[EntityRegistry.ENEMY.getId()] = crowd(count / 2, SEED);
+        positions[EntityRegistry.COIN.getId()] = crowd(count - count / 2, SEED + 1);
+        return new CSVData(positions);
+    }
+
+    private static int[][] crowd(int count, long seed) {
+        int[][] near = scatterNear(count / NEAR_SHARE, seed + 2);
+        int[][] ahead = scatter(count - near.length, seed);
+        int[][] positions = Arrays.copyOf(near, count);
+        System.arraycopy(ahead, 0, positions, near.length, ahead.length);
+        return positions;
+    }
+
+    /**
+     * Writes a level of the given number of objects as a CSV file with the LevelGenerator, in the mix of object types
+     * of the hand-written second level.
+     * @param count: number of objects with multiple instances.
+     * @return Path of the temporary file written, to be deleted by the caller.
+     * @throws IOException if the file can not be written.
+     */
+    public static Path writeCsv(int count) throws IOException {
+        Path file = Files.createTempFile("level", ".csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII)) {
+            new LevelGenerator(SEED, 2, 1000.0 / SPACING).write(writer, count);
+        }
+        return file;
+    }
+
+    /**
+     * Getter for X position of the player in the synthetic levels, behind every other object.
+     * @return int value of X position.
+     */
+    public static int getPLAYER_X() {
+        return PLAYER_X;
+    }
+}
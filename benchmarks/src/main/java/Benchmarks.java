@@ -0,0 +1,27 @@
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar.
+ * Runs the benchmarks with the GC profiler, so every result is reported with its allocation rate per operation
+ * (gc.alloc.rate.norm) next to its time.
+ */
+public class Benchmarks {
+
+    /**
+     * Runs the benchmarks selected on the command line, all of them by default.
+     * @param args: JMH command line options, e.g. a benchmark name pattern or -p count=1000 to pick one size.
+     * @throws CommandLineOptionException if the options are invalid.
+     * @throws RunnerException if a benchmark fails.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
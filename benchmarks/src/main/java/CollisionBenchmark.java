@@ -0,0 +1,56 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the narrow phase collision test, Collidable.checkCollision, of the player against every enemy.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private Player player;
+    private Enemy[] enemies;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = BenchmarkLevel.config();
+        player = EntityRegistry.PLAYER.create(config, new int[] {BenchmarkLevel.getPLAYER_X(), 687},
+                new SplittableRandom(0));
+        enemies = EntityRegistry.ENEMY.createAll(config, BenchmarkLevel.scatter(count, 0),
+                new EntityStore<>(count), new LevelRandom(config.getRandomSeed(), 1), 0);
+    }
+
+    /**
+     * Tests the player against every enemy through the Collidable interface.
+     * @return int value of number of enemies collided with, consumed by JMH.
+     */
+    @Benchmark
+    public int checkCollision() {
+        Collidable collidable = player;
+        int hits = 0;
+        for (Enemy enemy : enemies) {
+            if (collidable.checkCollision(enemy)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,52 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of reading a level file, IOUtils.readCsv, including the conversion of its rows into CSVData.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private Path file;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = BenchmarkLevel.writeCsv(count);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Reads and converts the whole level file.
+     * @return CSVData of the level, consumed by JMH.
+     */
+    @Benchmark
+    public CSVData readCsv() {
+        return IOUtils.readCsv(file.toString());
+    }
+}
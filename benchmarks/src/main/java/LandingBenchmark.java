@@ -0,0 +1,51 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of Player.checkLanding against a table of flying platforms.
+ * All platforms are ahead of the player, so none is landed on and every platform is checked, the worst case of a
+ * falling player.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LandingBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private Player player;
+    private EntityStore<FlyingPlatform> flyingPlatforms;
+
+    @Setup
+    public void setUp() {
+        GameConfig config = BenchmarkLevel.config();
+        player = EntityRegistry.PLAYER.create(config, new int[] {BenchmarkLevel.getPLAYER_X(), 687},
+                new SplittableRandom(0));
+        flyingPlatforms = new EntityStore<>(count);
+        EntityRegistry.FLYING_PLATFORM.createAll(config, BenchmarkLevel.scatter(count, 0), flyingPlatforms,
+                new LevelRandom(config.getRandomSeed(), 2), 0);
+    }
+
+    /**
+     * Checks the player for a landing on every flying platform.
+     */
+    @Benchmark
+    public void checkLanding() {
+        player.checkLanding(flyingPlatforms);
+    }
+}
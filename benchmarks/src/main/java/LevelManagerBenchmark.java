@@ -0,0 +1,58 @@
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the two halves of a state update, LevelManager.checkCollisions and LevelManager.moveObjects, on a
+ * level of enemies and coins.
+ * A tenth of the objects crowd the collision grid cells around the player, so every collision check tests a number
+ * of candidates that grows with the level, but none is close enough to collide. No key is held, so the camera stays
+ * at the start of the level. Every invocation then does the same work, the enemies keep moving randomly about their
+ * initial positions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LevelManagerBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int count;
+
+    private LevelManager levelManager;
+    private ScriptedInput input;
+
+    @Setup
+    public void setUp() {
+        levelManager = new LevelManager(BenchmarkLevel.config());
+        levelManager.loadLevel(1, BenchmarkLevel.level(count));
+        input = new ScriptedInput();
+    }
+
+    /**
+     * Broad and narrow phase collision detection of the player against the objects around it.
+     */
+    @Benchmark
+    public void checkCollisions() {
+        levelManager.checkCollisions();
+    }
+
+    /**
+     * Moves the player and updates every table of objects.
+     */
+    @Benchmark
+    public void moveObjects() {
+        levelManager.moveObjects(input);
+    }
+}
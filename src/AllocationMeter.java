@@ -0,0 +1,69 @@
+import java.lang.management.ManagementFactory;
+
+/**
+ * A class measuring the bytes of heap memory allocated by the calling thread, e.g. during a single state update.
+ * Memory allocated by other threads, such as the workers of a parallel update, is not counted.
+ * Uses com.sun.management.ThreadMXBean, which the HotSpot JVM provides. On JVMs without it, or where allocation
+ * measurement is disabled, the meter reports zero for everything.
+ */
+public class AllocationMeter {
+    private final com.sun.management.ThreadMXBean threads;
+    private final long overhead;
+    private long start;
+
+    /**
+     * Constructor for AllocationMeter object.
+     * The bytes a measurement allocates itself, if any, are measured once here and left out of every measurement.
+     */
+    public AllocationMeter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+            threads = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            threads = null;
+        }
+
+        /**
+         * The smallest of a few empty measurements, so a one-off allocation while warming up is not subtracted.
+         */
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long before = read();
+            minimum = Math.min(minimum, read() - before);
+        }
+        overhead = minimum;
+    }
+
+    /**
+     * Starts a measurement, which must be stopped on the same thread.
+     */
+    public void start() {
+        start = read();
+    }
+
+    /**
+     * Ends a measurement.
+     * @return long value of bytes allocated by the thread since start() was called.
+     */
+    public long stop() {
+        return Math.max(0, read() - start - overhead);
+    }
+
+    /**
+     * Getter for whether allocation can be measured on this JVM.
+     * @return boolean value, true if measurements are real.
+     */
+    public boolean isSupported() {
+        return threads != null;
+    }
+
+    /**
+     * Helper function to read the total bytes allocated by the calling thread so far.
+     * @return long value of bytes, zero if allocation can not be measured.
+     */
+    private long read() {
+        return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
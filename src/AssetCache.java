@@ -0,0 +1,25 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A class to share one Sprite per image file between all game objects.
+ * Each file is only loaded once, no matter how many objects use it or how often an object switches images.
+ */
+public class AssetCache {
+    private static final Map<String, Sprite> SPRITES = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor, all access is through static methods.
+     */
+    private AssetCache() {
+    }
+
+    /**
+     * Getter for the shared sprite of an image file.
+     * @param imagePath: String of path to image.
+     * @return Sprite shared by all users of the image file.
+     */
+    public static Sprite getSprite(String imagePath) {
+        return SPRITES.computeIfAbsent(imagePath, Sprite::new);
+    }
+}
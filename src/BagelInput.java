@@ -0,0 +1,48 @@
+import bagel.Input;
+import bagel.Keys;
+
+import java.util.Arrays;
+
+/**
+ * An adapter class to expose bagel's Input as a GameInput.
+ * A single instance is reused every frame to avoid allocating a new wrapper.
+ * Frames and state updates are not in step, so key presses are latched until a state update consumes them. This
+ * way a press is neither lost in a frame without state updates nor repeated in a frame with several.
+ */
+public class BagelInput implements GameInput {
+    private static final Keys[] KEYS = Keys.values();
+    private final boolean[] pressed = new boolean[KEYS.length];
+    private Input input;
+
+    /**
+     * Sets the bagel Input to read from for the current frame, and latches the keys pressed in this frame.
+     * @param input: user's keyboard input of the current frame.
+     * @return this adapter, for convenience.
+     */
+    public BagelInput wrap(Input input) {
+        this.input = input;
+        for (Keys key : KEYS) {
+            if (input.wasPressed(key)) {
+                pressed[key.ordinal()] = true;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Clears the latched key presses after a state update has read them.
+     */
+    public void consumePresses() {
+        Arrays.fill(pressed, false);
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        return input.isDown(key);
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        return pressed[key.ordinal()];
+    }
+}
@@ -6,15 +6,7 @@ import java.util.Properties;
  */
 
 public class CSVData {
-    private final int[] platform;
-    private final int[] player;
-    private final int[] endFlag;
-    private final int[] enemyBoss;
-    private final int[][] flyingPlatforms;
-    private final int[][] invinciblePower;
-    private final int[][] doubleScore;
-    private final int[][] coins;
-    private final int[][] enemies;
+    private final int[][][] positions;
 
 
     /**
@@ -33,15 +25,29 @@ public class CSVData {
     public CSVData(String[] platform, String[] player, String[] endFlag, String[] enemyBoss,
                    String[][] flyingPlatforms, String[][] invinciblePower, String[][] doubleScore,
                    String[][] coins, String[][] enemies) {
-        this.platform = convertArray(platform);
-        this.player = convertArray(player);
-        this.endFlag = convertArray(endFlag);
-        this.enemyBoss = convertArray(enemyBoss);
-        this.flyingPlatforms = convert2DArray(flyingPlatforms);
-        this.invinciblePower = convert2DArray(invinciblePower);
-        this.doubleScore = convert2DArray(doubleScore);
-        this.coins = convert2DArray(coins);
-        this.enemies = convert2DArray(enemies);
+        this(new int[EntityRegistry.size()][][]);
+        positions[EntityRegistry.PLATFORM.getId()] = toRows(convertArray(platform));
+        positions[EntityRegistry.PLAYER.getId()] = toRows(convertArray(player));
+        positions[EntityRegistry.END_FLAG.getId()] = toRows(convertArray(endFlag));
+        positions[EntityRegistry.ENEMY_BOSS.getId()] = toRows(convertArray(enemyBoss));
+        positions[EntityRegistry.FLYING_PLATFORM.getId()] = convert2DArray(flyingPlatforms);
+        positions[EntityRegistry.INVINCIBLE_POWER.getId()] = convert2DArray(invinciblePower);
+        positions[EntityRegistry.DOUBLE_SCORE.getId()] = convert2DArray(doubleScore);
+        positions[EntityRegistry.COIN.getId()] = convert2DArray(coins);
+        positions[EntityRegistry.ENEMY.getId()] = convert2DArray(enemies);
+    }
+
+    /**
+     * Constructor for CSVData object from positions that are already parsed, e.g. read from a binary level file.
+     * The arrays are used as they are, without copying.
+     * @param positions: 3D int array of rows of X and Y positions, indexed by EntityType id. Missing or null
+     *                 entries are treated as types without objects.
+     */
+    public CSVData(int[][][] positions) {
+        this.positions = new int[EntityRegistry.size()][][];
+        for (int i = 0; i < this.positions.length; i++) {
+            this.positions[i] = i < positions.length && positions[i] != null ? positions[i] : new int[0][];
+        }
     }
 
     // A helper function to convert the String array to integer array
@@ -102,31 +108,68 @@ public class CSVData {
      */
 
     public int[] getPlatform() {
-        return platform;
+        return flatten(getPositions(EntityRegistry.PLATFORM));
     }
     public int[] getPlayer() {
-        return player;
+        return flatten(getPositions(EntityRegistry.PLAYER));
     }
     public int[] getEndFlag() {
-        return endFlag;
+        return flatten(getPositions(EntityRegistry.END_FLAG));
     }
     public int[] getEnemyBoss() {
-        return enemyBoss;
+        return flatten(getPositions(EntityRegistry.ENEMY_BOSS));
     }
     public int[][] getFlyingPlatforms() {
-        return flyingPlatforms;
+        return getPositions(EntityRegistry.FLYING_PLATFORM);
     }
     public int[][] getInvinciblePower() {
-        return invinciblePower;
+        return getPositions(EntityRegistry.INVINCIBLE_POWER);
     }
     public int[][] getDoubleScore() {
-        return doubleScore;
+        return getPositions(EntityRegistry.DOUBLE_SCORE);
     }
     public int[][] getCoins() {
-        return coins;
+        return getPositions(EntityRegistry.COIN);
     }
     public int[][] getEnemies() {
-        return enemies;
+        return getPositions(EntityRegistry.ENEMY);
+    }
+
+    /**
+     * Getter for the positions of an object type as rows of X and Y positions.
+     * Objects with a single instance are returned as one row per instance found in the level file.
+     * @param type: EntityType of object type.
+     * @return 2D int array of positions.
+     */
+    public int[][] getPositions(EntityType<?> type) {
+        return positions[type.getId()];
+    }
+
+    /**
+     * Helper function to split a flat array of positions of a single instance object into rows.
+     * @param flat: int array of X and Y positions.
+     * @return 2D int array of positions.
+     */
+    private static int[][] toRows(int[] flat) {
+        int[][] rows = new int[flat.length / 2][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new int[] {flat[2 * i], flat[2 * i + 1]};
+        }
+        return rows;
+    }
+
+    /**
+     * Helper function to join the rows of a single instance object into one array, as read from a CSV file.
+     * @param rows: 2D int array of positions.
+     * @return int array of X and Y positions.
+     */
+    private static int[] flatten(int[][] rows) {
+        int[] flat = new int[2 * rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            flat[2 * i] = rows[i][0];
+            flat[2 * i + 1] = rows[i][1];
+        }
+        return flat;
     }
 
 }
@@ -0,0 +1,97 @@
+import bagel.Keys;
+
+/**
+ * A class representing the horizontal view of the level.
+ * Game objects stay at fixed world coordinates while the camera offset moves with the user's LEFT and RIGHT input,
+ * so scrolling costs a single update regardless of the number of objects. Rendering subtracts the offset.
+ * Rendering can also fall between two state updates, in which case positions and the offset are interpolated.
+ */
+public class Camera {
+    private final double SPEED;
+    private double offsetX, previousOffsetX;
+    private double scrollDelta;
+    private double alpha; // fraction of a state update elapsed since the last one, used when rendering
+
+    /**
+     * Constructor for Camera object.
+     * @param speed: double value of scrolling speed per state update.
+     */
+    public Camera(double speed) {
+        SPEED = speed;
+        offsetX = previousOffsetX = 0;
+        scrollDelta = 0;
+        alpha = 1;
+    }
+
+    /**
+     * Scrolls the view relative to user input.
+     * The view cannot scroll left of the level's starting position.
+     * @param input: user's keyboard input.
+     */
+    public void update(GameInput input) {
+        previousOffsetX = offsetX;
+        if (input.isDown(Keys.RIGHT)) {
+            offsetX += SPEED;
+        }
+        if (input.isDown(Keys.LEFT)) {
+            if (offsetX > 0) {
+                offsetX -= SPEED;
+            }
+        }
+        scrollDelta = offsetX - previousOffsetX;
+    }
+
+    /**
+     * Sets how far rendering is between the previous and the latest state update.
+     * @param alpha: double value from 0, drawing the previous state, to 1, drawing the latest state.
+     */
+    public void setInterpolation(double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Converts a world X coordinate to a screen X coordinate.
+     * @param worldX: double value of X position in the level.
+     * @return double value of X position in the window.
+     */
+    public double toScreenX(double worldX) {
+        return worldX - offsetX;
+    }
+
+    /**
+     * Converts an interpolated world X coordinate to a screen X coordinate.
+     * @param previousX: double value of X position in the level before the latest state update.
+     * @param worldX: double value of X position in the level after the latest state update.
+     * @return double value of X position in the window.
+     */
+    public double toScreenX(double previousX, double worldX) {
+        return interpolate(previousX, worldX) - interpolate(previousOffsetX, offsetX);
+    }
+
+    /**
+     * Interpolates a value between the previous and the latest state update.
+     * @param previous: double value before the latest state update.
+     * @param current: double value after the latest state update.
+     * @return double value at the current rendering time.
+     */
+    public double interpolate(double previous, double current) {
+        return previous + (current - previous) * alpha;
+    }
+
+    /**
+     * Getter for camera offset.
+     * @return double value of horizontal distance scrolled from the start of the level.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Getter for the distance scrolled during the last state update.
+     * Used by objects that stay fixed on screen, such as the player.
+     * @return double value of scrolled distance, positive when scrolling right.
+     */
+    public double getScrollDelta() {
+        return scrollDelta;
+    }
+}
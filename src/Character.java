@@ -1,8 +1,5 @@
-import bagel.Input;
 import bagel.Keys;
 
-import java.util.Properties;
-
 /**
  * An abstract parent class inheriting from GameObject parent class to represent Character objects. A game object
  * is classified as a character if it has health and/or damage properties. This class is abstract since the object needs
@@ -12,17 +9,28 @@ import java.util.Properties;
 
 public abstract class Character extends GameObject implements Collidable{
     protected double health = 0;
-    private final double RADIUS;
+
+    /**
+     * Constructor for Character object with a single instance.
+     * @param config: GameConfig object containing file names and default values.
+     * @param objectType: String of object type to retrieve corresponding attributes from the game config.
+     * @param objectCoord: int array of initial object position.
+     */
+    public Character(GameConfig config, String objectType, int[] objectCoord) {
+        super(config, objectType, objectCoord);
+        getStore().setRadius(getRow(), getObjectConfig().getRadius());
+    }
 
     /**
      * Constructor for Character object.
-     * @param game_props: Properties object containing file names and default values.
-     * @param objectType: String of object type to retrieve corresponding attributes from Properties file.
+     * @param config: GameConfig object containing file names and default values.
+     * @param objectType: String of object type to retrieve corresponding attributes from the game config.
      * @param objectCoord: int array of initial object position.
+     * @param store: EntityStore of the character's type.
      */
-    public Character(Properties game_props, String objectType, int[] objectCoord) {
-        super(game_props, objectType, objectCoord);
-        RADIUS = Double.parseDouble(game_props.getProperty("gameObjects."+objectType+".radius"));
+    public Character(GameConfig config, String objectType, int[] objectCoord, EntityStore<?> store) {
+        super(config, objectType, objectCoord, store);
+        getStore().setRadius(getRow(), getObjectConfig().getRadius());
     }
 
     /**
@@ -31,7 +39,7 @@ public abstract class Character extends GameObject implements Collidable{
      */
     @Override
     public double getRadius() {
-        return RADIUS;
+        return getStore().getRadius(getRow());
     }
 
     /**
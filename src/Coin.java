@@ -1,74 +1,67 @@
-import bagel.Input;
-import bagel.Keys;
-import bagel.util.Point;
-
-import java.util.Properties;
-
 /**
  * A specific class for coins, extending from the Item parent class.
  * Stores attributes of a single coin entity.
  */
 
 public class Coin extends Item{
-    private int coinValue;
     private final static int VERTICAL_SPEED = -10;
-    private Properties gameProps;
 
     /**
      * Constructor for a Coin object.
-     * @param gameProps: Properties object to retrieve files and default values.
+     * @param config: GameConfig object to retrieve files and default values.
      * @param objectCoord: int array of object's initial position.
+     * @param store: EntityStore of coins, holding the coin value as well as the position.
      */
-    public Coin(Properties gameProps, String objectType, int[] objectCoord) {
-        super(gameProps, objectType, objectCoord);
-        this.gameProps = gameProps;
-        coinValue = Integer.parseInt(gameProps.getProperty("gameObjects.coin.value"));
+    public Coin(GameConfig config, String objectType, int[] objectCoord, EntityStore<?> store) {
+        super(config, objectType, objectCoord, store);
+        getStore().setValue(getRow(), getObjectConfig().getValue());
     }
 
 
     /**
      * The Coin object's implementation of move method.
-     * @param input: user's keyboard entry.
      */
-    public void move(Input input){
+    @Override
+    public void move(){
 
         /**
          * If coin has collided, move upwards.
          */
-        if (coinValue == 0) {
+        if (getState() == EntityState.DYING) {
+            translate(0, VERTICAL_SPEED * getObjectConfig().getTickScale()); // Set vertical speed to move upwards
+
             /**
-             * Continue to move upwards until out of the window.
+             * Coin is dead once it has left the top of the window.
              */
-            if (getPosition().y < (Integer.parseInt(gameProps.getProperty("windowHeight"))) + getObjectImage().getHeight()) {
-                Point newPos = new Point(getPosition().x, getPosition().y + VERTICAL_SPEED); // Set vertical speed to move coin upwards
-                updatePosition(newPos);
+            if (getY() + getObjectImage().getHeight() / 2 < 0) {
+                setState(EntityState.DEAD);
             }
         }
 
-        /**
-         * Move left or right accordingly.
-         */
-        if (input.isDown(Keys.RIGHT)) {
-            updatePosition(new Point(getPosition().x - getSPEED(), getPosition().y));
-        }
+    }
 
-        if (input.isDown(Keys.LEFT)) {
-            /**
-             * Check to not move over the bounds.
-             */
-            if (getPosition().x < getINITIAL_POSITION().x) {
-                updatePosition(new Point(getPosition().x + getSPEED(), getPosition().y));
-            }
+    /**
+     * Handles the player's collision with the coin.
+     * Adds the coin value to the player's score, doubled if a double score power is active, then flags the collision.
+     * @param level: LevelManager of the level.
+     */
+    public void collide(LevelManager level) {
+        Player player = level.getPlayer();
+        if (level.isDoubleScore()) {
+            player.setScore(player.getScore() + (2 * getCoinValue()));
+        } else {
+            player.setScore(player.getScore() + getCoinValue());
         }
-
+        zeroValue();
     }
 
     /**
      * Sets coin value to zero.
-     * Acts as a flag if a coin has collided with a player.
+     * Acts as a flag if a coin has collided with a player, the coin stops colliding and flies out of the window.
      */
     public void zeroValue(){
-        coinValue = 0;
+        getStore().setValue(getRow(), 0);
+        setState(EntityState.DYING);
     }
 
     /**
@@ -77,6 +70,6 @@ public class Coin extends Item{
      * @return: int of coin value.
      */
     public int getCoinValue() {
-        return coinValue;
+        return (int) getStore().getValue(getRow());
     }
 }
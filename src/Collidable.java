@@ -1,5 +1,3 @@
-import bagel.util.Point;
-
 /**
  * An interface to signify that an object is Collidable.
  * A Collidable object will have a radius.
@@ -7,14 +5,15 @@ import bagel.util.Point;
 
 public interface Collidable {
     /**
-     * Method to retrieve an object's current position.
-     * @return Point value consisting of X and Y coordinate.
+     * Methods to retrieve an object's current position.
+     * @return double value of X or Y coordinate.
      */
-    Point getPosition();
+    double getX();
+    double getY();
 
     /**
      * A default method to check if an object has collided with another.
-     * Can take any other Collidable object as an argument, as long as they are a GameObject.
+     * Can take any other Collidable object as an argument.
      * @param object: Any Collidable object.
      * @return boolean type checking if distance is less than or equal to the range.
      */
@@ -27,25 +26,14 @@ public interface Collidable {
             return false;
         }
 
-        /**
-         * Asserting that object must be of GameObject.
-         */
-        if (!(object instanceof GameObject)) {
-            throw new IllegalArgumentException("Collidable must be GameObject");
-        }
-
-        GameObject gameObject = (GameObject) object;
-
         double range = this.getRadius() + object.getRadius();
 
         /**
-         * Calculating distance using Euclidian distance.
+         * Comparing squared Euclidian distance against squared range, avoiding the square root.
          */
-        double distance = Math.sqrt(
-                Math.pow(this.getPosition().x - gameObject.getPosition().x, 2) +
-                        Math.pow(this.getPosition().y - gameObject.getPosition().y, 2)
-        );
-        return distance <= range;
+        double dx = this.getX() - object.getX();
+        double dy = this.getY() - object.getY();
+        return dx * dx + dy * dy <= range * range;
     }
 
     /**
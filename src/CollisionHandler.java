@@ -0,0 +1,13 @@
+/**
+ * An interface for handling the player's collision with a game object of one object type.
+ * @param <T>: type of GameObject collided with.
+ */
+@FunctionalInterface
+public interface CollisionHandler<T extends GameObject> {
+    /**
+     * Handles a collision found in a state update.
+     * @param object: GameObject the player collided with.
+     * @param level: LevelManager of the level, giving access to the player and the active powers.
+     */
+    void collide(T object, LevelManager level);
+}
@@ -0,0 +1,135 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * A class to render only the game objects of one type that are inside the window.
+ * Objects are kept sorted by their initial X position in the level, and each frame the visible range is found with
+ * a binary search. The search is widened by the largest sprite half width and random displacement of the objects,
+ * so objects that move randomly around their initial position are never culled while visible. Objects can be added
+ * as parts of the level are loaded, and dead objects are removed with compact().
+ */
+public class CullingIndex {
+    private GameObject[] objects;
+    private double[] sortedX;
+    private int size;
+    private double margin;
+    private final int windowWidth, windowHeight;
+
+    /**
+     * Constructor for CullingIndex object.
+     * @param objects: array of GameObjects of one type, null entries are ignored.
+     * @param windowWidth: int value of window width.
+     * @param windowHeight: int value of window height.
+     */
+    public CullingIndex(GameObject[] objects, int windowWidth, int windowHeight) {
+        this.objects = new GameObject[0];
+        this.sortedX = new double[0];
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        add(objects);
+    }
+
+    /**
+     * Adds objects to the index, merging them into the sorted order.
+     * @param newObjects: array of GameObjects of the index's type, null entries are ignored.
+     */
+    public void add(GameObject[] newObjects) {
+        int count = 0;
+        GameObject[] added = new GameObject[newObjects == null ? 0 : newObjects.length];
+        for (int i = 0; i < added.length; i++) {
+            if (newObjects[i] != null) {
+                added[count++] = newObjects[i];
+            }
+        }
+        if (count == 0) {
+            return;
+        }
+        Arrays.sort(added, 0, count, Comparator.comparingDouble(GameObject::getINITIAL_X));
+
+        /**
+         * Merge with the objects already indexed, objects with equal X positions keep the order they were added in.
+         */
+        GameObject[] merged = new GameObject[size + count];
+        double[] mergedX = new double[size + count];
+        int i = 0, j = 0;
+        for (int k = 0; k < merged.length; k++) {
+            if (j == count || (i < size && sortedX[i] <= added[j].getINITIAL_X())) {
+                merged[k] = objects[i];
+                mergedX[k] = sortedX[i++];
+            } else {
+                merged[k] = added[j];
+                mergedX[k] = added[j++].getINITIAL_X();
+            }
+        }
+        objects = merged;
+        sortedX = mergedX;
+        size = merged.length;
+
+        for (int k = 0; k < count; k++) {
+            ObjectConfig type = added[k].getObjectConfig();
+            margin = Math.max(margin, added[k].getObjectImage().getWidth() / 2
+                    + type.getMaxRandomDisplacementX() + type.getRandomSpeed());
+        }
+    }
+
+    /**
+     * Renders the objects that are inside the window.
+     * Objects that have moved above or below the window, such as collected coins, are skipped.
+     * @param queue: RenderQueue to submit the draws to.
+     * @param camera: Camera object of the current view.
+     */
+    public void render(RenderQueue queue, Camera camera) {
+        double left = camera.getOffsetX() - margin;
+        double right = camera.getOffsetX() + windowWidth + margin;
+
+        for (int i = firstAtOrAfter(left); i < size && sortedX[i] <= right; i++) {
+            GameObject obj = objects[i];
+            double halfHeight = obj.getObjectImage().getHeight() / 2;
+            if (obj.getY() + halfHeight >= 0 && obj.getY() - halfHeight <= windowHeight) {
+                obj.render(queue, camera);
+            }
+        }
+    }
+
+    /**
+     * Removes dead objects from the index, keeping the remaining objects sorted.
+     */
+    public void compact() {
+        int live = 0;
+        for (int i = 0; i < size; i++) {
+            if (!objects[i].isDead()) {
+                objects[live] = objects[i];
+                sortedX[live] = sortedX[i];
+                live++;
+            }
+        }
+        Arrays.fill(objects, live, size, null);
+        size = live;
+    }
+
+    /**
+     * Getter for number of objects in the index.
+     * @return int value of size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Binary search for the first object whose initial X position is at least the given value.
+     * @param x: double value of X position in the level.
+     * @return int index of the first such object, or the number of objects if there is none.
+     */
+    private int firstAtOrAfter(double x) {
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedX[mid] < x) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -1,13 +1,6 @@
 import bagel.DrawOptions;
 import bagel.Font;
-import bagel.Image;
 import bagel.Window;
-import bagel.util.Point;
-import bagel.DrawOptions;
-
-import java.util.Properties;
-
-import static java.lang.Integer.parseInt;
 
 /**
  * A class dedicated to handle rendering game displays, includes starting and end screens, health and score
@@ -15,29 +8,41 @@ import static java.lang.Integer.parseInt;
  */
 
 public class DisplayManager {
-    private final Font TITLE_FONT, MESSAGE_FONT, INS_FONT, P_HEALTH_FONT, SCORE_FONT, E_HEALTH_FONT;
-    private final Image BACKGROUND;
+    private final Font TITLE_FONT, MESSAGE_FONT, INS_FONT, P_HEALTH_FONT, SCORE_FONT, E_HEALTH_FONT, PROFILER_FONT;
+    private final Sprite BACKGROUND;
     private final static int TOTAL_HEALTH = 100;
-    private final Properties gameProps, messageProps;
+    private final static int PROFILER_REFRESH_FRAMES = 30; // frames between updates of the overlay text
+    private final static double LINE_SPACING = 1.5;
+    private final static double NANOS_PER_MICRO = 1000.0;
+    private final GameConfig config;
+    private final DrawOptions E_HEALTH_OPTIONS = new DrawOptions().setBlendColour(255, 0, 0);
+
+    /**
+     * Displayed texts of values that change during a level, rebuilt only when their value changes so that rendering
+     * a frame does not allocate.
+     */
+    private int shownPlayerHealth = -1, shownScore = -1, shownEnemyBossHealth = -1;
+    private String playerHealthText, scoreText, enemyBossHealthText;
+    private String[] profilerLines;
+    private int profilerFrames;
 
     /**
      * Constructor for DisplayManager object.
-     * @param gameProps: Properties object to access file names and initial values.
-     * @param messageProps: Properties object to access String contents to be displayed.
+     * @param config: GameConfig object to access file names, screen layout and String contents to be displayed.
      */
-    public DisplayManager(Properties gameProps, Properties messageProps){
-        this.gameProps = gameProps;
-        this.messageProps = messageProps;
+    public DisplayManager(GameConfig config){
+        this.config = config;
 
-        String FONT_FILE = gameProps.getProperty("font");
-        TITLE_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("title.fontSize")));
-        MESSAGE_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("message.fontSize")));
-        INS_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("instruction.fontSize")));
-        P_HEALTH_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("playerHealth.fontSize")));
-        E_HEALTH_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("enemyBossHealth.fontSize")));
-        SCORE_FONT = new Font(FONT_FILE, Integer.parseInt(gameProps.getProperty("score.fontSize")));
+        String FONT_FILE = config.getFont();
+        TITLE_FONT = new Font(FONT_FILE, config.getTitle().getFontSize());
+        MESSAGE_FONT = new Font(FONT_FILE, config.getMessage().getFontSize());
+        INS_FONT = new Font(FONT_FILE, config.getInstruction().getFontSize());
+        P_HEALTH_FONT = new Font(FONT_FILE, config.getPlayerHealth().getFontSize());
+        E_HEALTH_FONT = new Font(FONT_FILE, config.getEnemyBossHealth().getFontSize());
+        SCORE_FONT = new Font(FONT_FILE, config.getScore().getFontSize());
+        PROFILER_FONT = new Font(FONT_FILE, config.getProfiler().getFontSize());
 
-        BACKGROUND = new Image(gameProps.getProperty("backgroundImage"));
+        BACKGROUND = AssetCache.getSprite(config.getBackgroundImage());
 
 
     }
@@ -47,14 +52,14 @@ public class DisplayManager {
      */
     public void renderStartScreen() {
         BACKGROUND.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
-        String title = messageProps.getProperty("title");
-        String instruction = messageProps.getProperty("instruction");
-        Point titlePos = new Point(parseInt(gameProps.getProperty("title.x")), parseInt(gameProps.getProperty("title.y")));
-        Point insPos = new Point((Window.getWidth() - INS_FONT.getWidth(instruction)) / 2, Integer.parseInt(gameProps.getProperty("instruction.y")));
+        String title = config.getTitleMessage();
+        String instruction = config.getInstructionMessage();
+        TextConfig titlePos = config.getTitle();
 
 
-        TITLE_FONT.drawString(title, titlePos.x, titlePos.y);
-        INS_FONT.drawString(instruction, insPos.x, insPos.y);
+        TITLE_FONT.drawString(title, titlePos.getX(), titlePos.getY());
+        INS_FONT.drawString(instruction, (Window.getWidth() - INS_FONT.getWidth(instruction)) / 2,
+                config.getInstruction().getY());
     }
 
     /**
@@ -66,19 +71,27 @@ public class DisplayManager {
      */
     public void renderGameScreen(Player player, EnemyBoss enemyBoss) {
         BACKGROUND.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
-        String health = messageProps.getProperty("health");
-        String score = messageProps.getProperty("score");
-        Point phealthPos = new Point(parseInt(gameProps.getProperty("playerHealth.x")), parseInt(gameProps.getProperty("playerHealth.y")));
-        Point scorePos = new Point(parseInt(gameProps.getProperty("score.x")), parseInt(gameProps.getProperty("score.y")));
-        Point eHealthPos = new Point(parseInt(gameProps.getProperty("enemyBossHealth.x")), parseInt(gameProps.getProperty("enemyBossHealth.y")));
+        String health = config.getHealthMessage();
+        String score = config.getScoreMessage();
+        TextConfig phealthPos = config.getPlayerHealth();
+        TextConfig scorePos = config.getScore();
+        TextConfig eHealthPos = config.getEnemyBossHealth();
 
         /**
          * Mapping Player's health value to view percentage format.
          */
         int healthPercentage = (int) (player.getHealth()*TOTAL_HEALTH); // Mapping health
+        if (healthPercentage != shownPlayerHealth || playerHealthText == null) {
+            shownPlayerHealth = healthPercentage;
+            playerHealthText = health +  " "  + healthPercentage;
+        }
+        if (player.getScore() != shownScore || scoreText == null) {
+            shownScore = player.getScore();
+            scoreText = score +  " "  + shownScore;
+        }
 
-        P_HEALTH_FONT.drawString(health +  " "  + healthPercentage, phealthPos.x, phealthPos.y);
-        SCORE_FONT.drawString(score +  " "  + player.getScore(), scorePos.x, scorePos.y);
+        P_HEALTH_FONT.drawString(playerHealthText, phealthPos.getX(), phealthPos.getY());
+        SCORE_FONT.drawString(scoreText, scorePos.getX(), scorePos.getY());
 
         /**
          * Defense code to assert that enemy boss is initialized before displaying its health.
@@ -88,17 +101,77 @@ public class DisplayManager {
              * Maps enemy boss health to display percentage format.
              */
             int eHealthPercentage = (int) (enemyBoss.getHealth()*TOTAL_HEALTH); // Mapping health
-            DrawOptions options = new DrawOptions();
-            E_HEALTH_FONT.drawString(health + " " + eHealthPercentage, eHealthPos.x, eHealthPos.y, options.setBlendColour(255,0,0));
+            if (eHealthPercentage != shownEnemyBossHealth || enemyBossHealthText == null) {
+                shownEnemyBossHealth = eHealthPercentage;
+                enemyBossHealthText = health + " " + eHealthPercentage;
+            }
+            E_HEALTH_FONT.drawString(enemyBossHealthText, eHealthPos.getX(), eHealthPos.getY(), E_HEALTH_OPTIONS);
+        }
+    }
+
+    /**
+     * Method to render the profiler overlay, showing the timings of each phase of the state updates and rendering,
+     * and the number of objects of each type in the level.
+     * The text is only rebuilt every few frames, so the numbers stay readable and cost nothing most frames.
+     * @param profiler: FrameProfiler object to access the timings.
+     * @param levelManager: LevelManager object to access the object counts.
+     */
+    public void renderProfiler(FrameProfiler profiler, LevelManager levelManager) {
+        if (profilerLines == null || ++profilerFrames >= PROFILER_REFRESH_FRAMES) {
+            profilerLines = profilerText(profiler, levelManager);
+            profilerFrames = 0;
         }
+        TextConfig profilerPos = config.getProfiler();
+        double lineHeight = profilerPos.getFontSize() * LINE_SPACING;
+        for (int i = 0; i < profilerLines.length; i++) {
+            PROFILER_FONT.drawString(profilerLines[i], profilerPos.getX(), profilerPos.getY() + i * lineHeight);
+        }
+    }
+
+    /**
+     * Helper function to build the lines of the profiler overlay.
+     * @param profiler: FrameProfiler object to access the timings.
+     * @param levelManager: LevelManager object to access the object counts.
+     * @return String array of one line per phase, followed by a line of allocations and a line of object counts.
+     */
+    private static String[] profilerText(FrameProfiler profiler, LevelManager levelManager) {
+        String[] lines = new String[profiler.getPhaseCount() + 2];
+        for (int i = 0; i < profiler.getPhaseCount(); i++) {
+            LatencyHistogram histogram = profiler.getHistogram(i);
+            lines[i] = String.format("%s  p50 %.1f  p99 %.1f  p99.9 %.1f  max %.1f us", profiler.getName(i),
+                    histogram.getPercentile(0.5) / NANOS_PER_MICRO, histogram.getPercentile(0.99) / NANOS_PER_MICRO,
+                    histogram.getPercentile(0.999) / NANOS_PER_MICRO, histogram.getMax() / NANOS_PER_MICRO);
+        }
+
+        StringBuilder counts = new StringBuilder();
+        for (int id = 0; id < EntityRegistry.size(); id++) {
+            EntityType<?> type = EntityRegistry.get(id);
+            if (!type.isSingleInstance()) {
+                counts.append(type.getTag()).append(' ').append(levelManager.getObjectCount(type)).append("  ");
+            }
+        }
+        lines[lines.length - 2] = String.format("allocated  last %d B  max %d B  in %d of %d updates",
+                profiler.getLastTickAllocation(), profiler.getMaxTickAllocation(), profiler.getAllocatingTicks(),
+                profiler.getTicks());
+        lines[lines.length - 1] = counts.toString().trim();
+        return lines;
+    }
+
+    /**
+     * Method to render the message shown on the start screen when the selected level could not be loaded.
+     */
+    public void renderLoadError() {
+        String errorString = config.getLoadErrorMessage();
+        int messageY = config.getMessage().getY();
+        MESSAGE_FONT.drawString(errorString, (Window.getWidth() - MESSAGE_FONT.getWidth(errorString))/2, messageY);
     }
 
     /**
      * Method to render winning message when win condition is fulfilled.
      */
     public void renderWinScreen(){
-        String winString = messageProps.getProperty("gameWon");
-        int messageY = Integer.parseInt(gameProps.getProperty("message.y"));
+        String winString = config.getGameWonMessage();
+        int messageY = config.getMessage().getY();
         MESSAGE_FONT.drawString(winString, (Window.getWidth() - MESSAGE_FONT.getWidth(winString))/2, messageY);
     }
 
@@ -106,8 +179,8 @@ public class DisplayManager {
      * Method to render lose message when lose conditions reached.
      */
     public void renderLoseScreen(){
-        String loseString = messageProps.getProperty("gameOver");
-        int messageY = Integer.parseInt(gameProps.getProperty("message.y"));
+        String loseString = config.getGameOverMessage();
+        int messageY = config.getMessage().getY();
         MESSAGE_FONT.drawString(loseString, (Window.getWidth() - MESSAGE_FONT.getWidth(loseString))/2, messageY);
     }
 }
@@ -1,5 +1,3 @@
-import java.util.Properties;
-
 /**
  * A class extending the Game Object parent class and implementing the Collidable interface to represent the
  * end flag entity.
@@ -9,12 +7,12 @@ public class EndFlag extends GameObject implements  Collidable{
 
     /**
      * Constructor for the end flag object.
-     * @param game_props: Properties object containing file names and initial attribute values.
+     * @param config: GameConfig object containing file names and initial attribute values.
      * @param objectCoord: int array of initial object coordinate.
      */
-    public EndFlag(Properties game_props, int[] objectCoord) {
-        super(game_props, "endFlag", objectCoord);
-        RADIUS = Double.parseDouble(game_props.getProperty("gameObjects.endFlag.radius"));
+    public EndFlag(GameConfig config, int[] objectCoord) {
+        super(config, "endFlag", objectCoord);
+        RADIUS = getObjectConfig().getRadius();
     }
 
     /**
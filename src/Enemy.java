@@ -1,9 +1,4 @@
-import bagel.Input;
-import bagel.Keys;
-import bagel.util.Point;
-
-import java.util.Properties;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A subclass extending from Character parent class and implementing the RandomMovable interface to represent the enemy
@@ -11,57 +6,33 @@ import java.util.Random;
  */
 
 public class Enemy extends Character implements RandomMovable{
-    private double damageSize;
-    private int currentDisplacement = 0;
-    private final int maxDisplacement;
-    private boolean movingRight;
-    /**
-     * Initializing Random object to implement random effect on random movement.
-     */
-    private static final Random random = new Random();
-    private int randomSpeed;
+    private static final double ROUND = 100.0;
 
     /**
      * Constructor for enemy object.
-     * @param gameProps: Properties object to access file names and attribute values.
+     * @param config: GameConfig object to access file names and attribute values.
      * @param enemyPos: int array of initial position.
+     * @param store: EntityStore of enemies, holding the damage size and random movement as well as the position.
+     * @param random: SplittableRandom stream of the enemy, picking its initial direction.
      */
-    public Enemy(Properties gameProps, String objectType, int[] enemyPos) {
-        super(gameProps, objectType, enemyPos);
+    public Enemy(GameConfig config, String objectType, int[] enemyPos, EntityStore<?> store,
+                 SplittableRandom random) {
+        super(config, objectType, enemyPos, store);
         /**
          * Initialize other attributes such as damage size, displacement, and random speed.
-         * Retrieve values from gameProps.
+         * Retrieve values from the object type's config.
          */
-        damageSize = Double.parseDouble(gameProps.getProperty("gameObjects.enemy.damageSize"));
-        maxDisplacement = Integer.parseInt(gameProps.getProperty("gameObjects.enemy.maxRandomDisplacementX"));
-        randomSpeed = Integer.parseInt(gameProps.getProperty("gameObjects.enemy.randomSpeed"));
-        this.movingRight = random.nextBoolean();
+        getStore().setValue(getRow(), getObjectConfig().getDamageSize());
+        getStore().setRandomMovement(getRow(), getObjectConfig().getRandomSpeed(),
+                getObjectConfig().getMaxRandomDisplacementX(), random.nextBoolean());
 
     }
 
     /**
      * Enemy implementation of move method to perform state update.
-     * @param input: User's keyboard input.
      */
-    public void move(Input input) {
-        /**
-         * Move accordingly relative to input.
-         */
-        if (input.isDown(Keys.RIGHT)) {
-            updatePosition(new Point(getPosition().x - getSPEED(), getPosition().y));
-        }
-        if (input.isDown(Keys.LEFT)) {
-            /**
-             * Check if within bounds.
-             */
-            if (getPosition().x < getINITIAL_POSITION().x) {
-                updatePosition(new Point(getPosition().x + getSPEED(), getPosition().y));
-            }
-        }
-
-        /**
-         * Move randomly after responding to user input.
-         */
+    @Override
+    public void move() {
         moveRandomly();
     }
 
@@ -71,16 +42,32 @@ public class Enemy extends Character implements RandomMovable{
      * @return double value of damage size.
      */
     public double getDamageSize() {
-        return damageSize;
+        return getStore().getValue(getRow());
+    }
+
+    /**
+     * Handles the player's collision with the enemy.
+     * Inflicts damage on the player unless an invincible power is active, then flags the collision.
+     * @param level: LevelManager of the level.
+     */
+    public void collide(LevelManager level) {
+        Player player = level.getPlayer();
+        if (!level.isInvincible()) {
+            double newHealth = player.getHealth() - getDamageSize();
+            double roundedHealth = Math.round(newHealth * ROUND) / ROUND;
+            player.setHealth(roundedHealth);
+        }
+        zeroDamage();
     }
 
     /**
      * Sets damage size to zero.
      * Acts as a flag that an enemy has collided.
-     * Enemy can no longer inflict damage on the player.
+     * Enemy can no longer inflict damage on the player, it stays dying and keeps moving in the level.
      */
     public void zeroDamage() {
-        this.damageSize = 0;
+        getStore().setValue(getRow(), 0);
+        setState(EntityState.DYING);
     }
 
     /**
@@ -88,26 +75,9 @@ public class Enemy extends Character implements RandomMovable{
      */
     public void moveRandomly() {
         /**
-         * Reverse direction.
-         */
-        if (Math.abs(currentDisplacement) >= maxDisplacement) {
-            randomSpeed = -randomSpeed; // Reverse direction
-        }
-
-        /**
-         * Implements movement according to direction.
-         */
-        if (movingRight) {
-            int newX = (int) (getPosition().x + randomSpeed);
-            updatePosition(new Point(newX, getPosition().y));
-        } else {
-            int newX = (int) (getPosition().x - randomSpeed);
-            updatePosition(new Point(newX, getPosition().y));
-        }
-
-        /**
-         * Update displacement by incrementing speed.
+         * Reverses direction at the end of the displacement range, and moves according to direction.
+         * Enemies in a level are moved in bulk by their EntityStore.
          */
-        currentDisplacement += randomSpeed;
+        getStore().moveRandomly(getRow());
     }
 }
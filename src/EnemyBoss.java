@@ -1,6 +1,3 @@
-import bagel.Input;
-import bagel.Keys;
-import bagel.util.Point;
 
 import java.util.*;
 
@@ -11,65 +8,64 @@ import java.util.*;
 
 public class EnemyBoss extends Character implements Shootable {
     private final int ACTIVATION_RADIUS;
-    private final int FRAME_INTERVALS = 100;
-    private final int FALL_SPEED = 2;
-    private int verticalSpeed;
-    Properties gameProps;
+    private static final int FRAME_INTERVALS = 100;
+    private static final int FALL_SPEED = 2;
+    private final int frameIntervals;
+    private final double fallSpeed; // scaled to the tick rate
+    private double verticalSpeed;
+    private final int windowHeight;
     private int frameCounter = 0;
-    private final Random random = new Random();
-    private List<Fireball> fireballs;
+    private final SplittableRandom random;
+    private final FireballPool fireballs;
 
     /**
      * Constructor for enemy boss object.
-     * @param gameProps: Properties object to access files and attribute values.
+     * @param config: GameConfig object to access files and attribute values.
      * @param enemyBosPos: int array of initial position.
+     * @param random: SplittableRandom stream of the enemy boss, deciding when it shoots.
      */
-    public EnemyBoss(Properties gameProps, int[] enemyBosPos){
-        super(gameProps, "enemyBoss", enemyBosPos);
+    public EnemyBoss(GameConfig config, int[] enemyBosPos, SplittableRandom random){
+        super(config, "enemyBoss", enemyBosPos);
         /**
-         * Initialize attributes by accessing from gameProps.
+         * Initialize attributes by accessing from the object type's config.
          */
-        ACTIVATION_RADIUS = Integer.parseInt(gameProps.getProperty("gameObjects.enemyBoss.activationRadius"));
-        this.health = Double.parseDouble(gameProps.getProperty("gameObjects.enemyBoss.health"));
-        this.gameProps = gameProps;
-        this.fireballs = new ArrayList<>();
+        ACTIVATION_RADIUS = getObjectConfig().getActivationRadius();
+        this.health = getObjectConfig().getHealth();
+        this.windowHeight = config.getWindowHeight();
+        this.frameIntervals = config.scaleTicks(FRAME_INTERVALS);
+        this.fallSpeed = config.scaleSpeed(FALL_SPEED);
+        this.fireballs = new FireballPool(config);
+        this.random = random;
         verticalSpeed = 0;
     }
 
     /**
      * Implementation of move method for enemy boss.
-     * @param input: user's keyboard input.
      * @param player: player object to access player's position
+     * @param camera: Camera object of the current view, used to move fireballs.
      */
-    public void move(Input input, Player player) {
+    public void move(Player player, Camera camera) {
 
         /**
          * If health reaches zero or under, move down until not visible in the window.
          */
         if (getHealth() <= 0) {
-            verticalSpeed = FALL_SPEED;
-            if (getPosition().y < (Integer.parseInt(gameProps.getProperty("windowHeight"))) + getObjectImage().getHeight()) {
-                updatePosition(new Point(getPosition().x, getPosition().y + verticalSpeed));
+            verticalSpeed = fallSpeed;
+            if (getY() < windowHeight + getObjectImage().getHeight()) {
+                translate(0, verticalSpeed);
             }
         }
 
         /**
-         * Move relative to user input.
+         * Update fireballs already in flight.
          */
-        if (input.isDown(Keys.RIGHT)) {
-            updatePosition(new Point(getPosition().x - getSPEED(), getPosition().y));
-        }
-        if (input.isDown(Keys.LEFT)) {
-            if (getPosition().x < getINITIAL_POSITION().x) {
-                updatePosition(new Point(getPosition().x + getSPEED(), getPosition().y));
-            }
-        }
+        updateFireballs(camera);
 
         /**
          * Increment frame counter to randomly shoot fireballs every 100 frames
          */
         frameCounter++;
-        if (frameCounter % FRAME_INTERVALS == 0) {  // Every 100 frames
+        if (frameCounter % frameIntervals == 0) {  // Every 100 frames at the base tick rate
 
             /**
              * Random chance to shoot fireball if the player is within activation radius
@@ -80,10 +76,9 @@ public class EnemyBoss extends Character implements Shootable {
         }
 
         /**
-         * Update fireballs and enemy boss position.
+         * Update enemy boss position.
          */
-        updateFireballs();
-        updatePosition(new Point(getPosition().x, getPosition().y + verticalSpeed));
+        translate(0, verticalSpeed);
 
     }
 
@@ -103,37 +98,33 @@ public class EnemyBoss extends Character implements Shootable {
         GameObject gameObject = (GameObject) target; // Safe cast after checking
 
         /**
-         * Check for direction of fireball and add a new instance of fireball to the dynamic array.
+         * Check for direction of fireball and launch a pooled fireball.
+         */
+        boolean movingRight = getX() < gameObject.getX();
+        Fireball newFireball = fireballs.spawn(getX(), getY(), movingRight);
+
+        /**
+         * The boss shoots after the view has scrolled, so the new fireball moves without following this scroll.
          */
-        boolean movingRight = getPosition().x < gameObject.getPosition().x;
-        int [] position = {(int) getPosition().x, (int)getPosition().y};
-        Fireball newFireball = new Fireball(gameProps, position, movingRight);
-        fireballs.add(newFireball);
+        if (newFireball != null) {
+            newFireball.move(0);
+        }
     }
 
 
     /**
      * Updates the fireballs position to move accordingly towards target
+     * @param camera: Camera object of the current view.
      */
-    public void updateFireballs() {
-        Iterator<Fireball> it = fireballs.iterator();
-        while (it.hasNext()) {
-            Fireball fireball = it.next();
-            fireball.move();
-            /**
-             * Remove fireball if outside of player window or has collided with target.
-             */
-            if (fireball.isOffScreen() || fireball.hasCollided()) {
-                it.remove();
-            }
-        }
+    public void updateFireballs(Camera camera) {
+        fireballs.update(camera);
     }
 
     /**
-     * Getter for fireball list.
-     * @return list of current fireballs shot.
+     * Getter for fireball pool.
+     * @return pool of current fireballs shot.
      */
-    public List<Fireball> getFireballs(){
+    public FireballPool getFireballs(){
         return fireballs;
     }
 
@@ -143,7 +134,7 @@ public class EnemyBoss extends Character implements Shootable {
      * @return double value of distance to player.
      */
     public double distanceToPlayer(Player player) {
-        return getPosition().x - player.getPosition().x;
+        return getX() - player.getX();
     }
 
     /**
@@ -0,0 +1,19 @@
+import java.util.SplittableRandom;
+
+/**
+ * An interface for constructing the game objects of one object type from their initial position in a level file.
+ * @param <T>: type of GameObject constructed.
+ */
+@FunctionalInterface
+public interface EntityFactory<T extends GameObject> {
+    /**
+     * Constructs a game object.
+     * @param config: GameConfig object to pass onto the object constructor.
+     * @param position: int array of X and Y position.
+     * @param store: EntityStore to keep the object's state in, unused by objects with a single instance, which keep
+     *             a table of their own.
+     * @param random: SplittableRandom stream of the object, not shared with any other object.
+     * @return constructed GameObject.
+     */
+    T create(GameConfig config, int[] position, EntityStore<T> store, SplittableRandom random);
+}
@@ -0,0 +1,127 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * A registry of the object types that can appear in a level file.
+ * Each type maps its CSV identifier, e.g. COIN, to a factory that constructs its objects with a direct constructor
+ * call, and describes how the level stores them. Types are numbered in the order they are registered, which is also
+ * the order they are stored in a binary level file, so new types must be registered after the existing ones.
+ * Adding an object type with multiple instances only needs a register call here: level files, chunks, updates,
+ * rendering, the collision grid and the handling of the player's collisions all go through the registry.
+ */
+public class EntityRegistry {
+    private static final List<EntityType<?>> TYPES = new ArrayList<>();
+    private static final Map<String, EntityType<?>> BY_TAG = new HashMap<>();
+
+    /**
+     * Objects with a single instance, constructed by the LevelManager itself.
+     */
+    public static final EntityType<Platform> PLATFORM = registerSingle("PLATFORM",
+            (config, position, store, random) -> new Platform(config, "platform", position), Platform[]::new);
+    public static final EntityType<Player> PLAYER = registerSingle("PLAYER",
+            (config, position, store, random) -> new Player(config, position), Player[]::new);
+    public static final EntityType<EndFlag> END_FLAG = registerSingle("END_FLAG",
+            (config, position, store, random) -> new EndFlag(config, position), EndFlag[]::new);
+    public static final EntityType<EnemyBoss> ENEMY_BOSS = registerSingle("ENEMY_BOSS",
+            (config, position, store, random) -> new EnemyBoss(config, position, random), EnemyBoss[]::new);
+
+    /**
+     * Objects with multiple instances, constructed in chunks.
+     * Level 2 and 3 contains flying platforms, invincible powers, and double score powers.
+     */
+    public static final EntityType<FlyingPlatform> FLYING_PLATFORM = register("FLYING_PLATFORM",
+            (config, position, store, random) -> new FlyingPlatform(config, "flyingPlatform", position, store, random),
+            FlyingPlatform[]::new, 2);
+    public static final EntityType<Power> INVINCIBLE_POWER = register("INVINCIBLE_POWER",
+            (config, position, store, random) -> new Power(config, "invinciblePower", position, store), Power[]::new,
+            2, LevelManager.POWER, (power, level) -> power.activate());
+    public static final EntityType<Power> DOUBLE_SCORE = register("DOUBLE_SCORE",
+            (config, position, store, random) -> new Power(config, "doubleScore", position, store), Power[]::new,
+            2, LevelManager.POWER, (power, level) -> power.activate());
+    public static final EntityType<Coin> COIN = register("COIN",
+            (config, position, store, random) -> new Coin(config, "coin", position, store), Coin[]::new,
+            1, LevelManager.COIN, Coin::collide);
+    public static final EntityType<Enemy> ENEMY = register("ENEMY",
+            (config, position, store, random) -> new Enemy(config, "enemy", position, store, random), Enemy[]::new,
+            1, LevelManager.ENEMY, Enemy::collide);
+
+    /**
+     * Registers an object type with multiple instances that the player collides with.
+     * @param tag: String identifier of the type in level files.
+     * @param factory: EntityFactory constructing the type's objects.
+     * @param arrayFactory: function creating arrays of the type's objects.
+     * @param minLevel: int lowest game level the type's objects appear in.
+     * @param collisionOrder: int order in which collisions with the type's objects are handled in a state update,
+     *                      lowest first, e.g. LevelManager.ENEMY.
+     * @param collisionHandler: CollisionHandler of the player's collisions with the type's objects.
+     * @return registered EntityType.
+     */
+    public static <T extends GameObject> EntityType<T> register(String tag, EntityFactory<T> factory,
+                                                               IntFunction<T[]> arrayFactory, int minLevel,
+                                                               int collisionOrder,
+                                                               CollisionHandler<T> collisionHandler) {
+        if (collisionHandler == null || collisionOrder == LevelManager.NO_COLLISION) {
+            throw new IllegalArgumentException("Object type " + tag + " needs a collision handler and order");
+        }
+        return add(new EntityType<>(TYPES.size(), tag, factory, arrayFactory, false, minLevel, collisionOrder,
+                collisionHandler));
+    }
+
+    /**
+     * Registers an object type with multiple instances that the player does not collide with.
+     * @param tag: String identifier of the type in level files.
+     * @param factory: EntityFactory constructing the type's objects.
+     * @param arrayFactory: function creating arrays of the type's objects.
+     * @param minLevel: int lowest game level the type's objects appear in.
+     * @return registered EntityType.
+     */
+    public static <T extends GameObject> EntityType<T> register(String tag, EntityFactory<T> factory,
+                                                               IntFunction<T[]> arrayFactory, int minLevel) {
+        return add(new EntityType<>(TYPES.size(), tag, factory, arrayFactory, false, minLevel,
+                LevelManager.NO_COLLISION, null));
+    }
+
+    private static <T extends GameObject> EntityType<T> registerSingle(String tag, EntityFactory<T> factory,
+                                                                      IntFunction<T[]> arrayFactory) {
+        return add(new EntityType<>(TYPES.size(), tag, factory, arrayFactory, true, 1, LevelManager.NO_COLLISION,
+                null));
+    }
+
+    private static <T extends GameObject> EntityType<T> add(EntityType<T> type) {
+        if (BY_TAG.containsKey(type.getTag())) {
+            throw new IllegalArgumentException("Object type " + type.getTag() + " is already registered");
+        }
+        TYPES.add(type);
+        BY_TAG.put(type.getTag(), type);
+        return type;
+    }
+
+    /**
+     * Getter for the number of registered types.
+     * @return int value of type count.
+     */
+    public static int size() {
+        return TYPES.size();
+    }
+
+    /**
+     * Getter for a registered type by index.
+     * @param id: int index of the type.
+     * @return EntityType with that index.
+     */
+    public static EntityType<?> get(int id) {
+        return TYPES.get(id);
+    }
+
+    /**
+     * Finds a registered type by its identifier in level files.
+     * @param tag: String identifier, e.g. COIN.
+     * @return EntityType with that identifier, or null if there is none.
+     */
+    public static EntityType<?> find(String tag) {
+        return BY_TAG.get(tag);
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * Lifecycle states of a game object.
+ * ACTIVE objects are updated, rendered and can collide with the player. DYING objects have been hit or collected and
+ * only finish their animation, so they are updated and rendered but no longer collide. DEAD objects are dropped from
+ * every set the level iterates over.
+ */
+public enum EntityState {
+    ACTIVE,
+    DYING,
+    DEAD
+}
@@ -0,0 +1,381 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A table of the live game objects of one type, storing their state in parallel primitive arrays indexed by row.
+ * Positions, radii, damage or value, lifecycle states and random movement are kept here rather than in the objects,
+ * and each GameObject is a handle to its row. The per update work of a whole type is then a linear scan over packed
+ * arrays: saving positions for interpolation and moving randomly run as loops over the rows, and only objects that
+ * have left the active state run their own move method. When an object dies the last row is swapped into its place,
+ * so the table only ever holds live objects.
+ * Objects with a single instance, such as the player, keep a table of their own.
+ * @param <T>: type of GameObject in the table.
+ */
+public class EntityStore<T extends GameObject> {
+    private static final EntityState[] STATES = EntityState.values();
+    private static final byte ACTIVE = (byte) EntityState.ACTIVE.ordinal(), DYING = (byte) EntityState.DYING.ordinal(),
+            DEAD = (byte) EntityState.DEAD.ordinal();
+    private static final int NO_GRID = -1;
+
+    /**
+     * A single dead row that the objects of removed rows are bound to, so they keep reporting that they are dead
+     * instead of reading the row of the object that took their place.
+     */
+    private static final EntityStore<GameObject> REMOVED = new EntityStore<>(1);
+    static {
+        REMOVED.state[0] = DEAD;
+        REMOVED.gridId[0] = NO_GRID;
+    }
+
+    private GameObject[] handles;
+    private double[] x, y, previousX, previousY;
+    private double[] radius;
+    private double[] value; // damage of enemies and value of coins
+    private byte[] state;
+    private double[] speed, displacement;
+    private int[] maxDisplacement;
+    private boolean[] movingRight;
+    private int[] gridId;
+    private SpatialHash grid;
+    private boolean randomMovement;
+    private int size;
+
+    /**
+     * Constructor for EntityStore object.
+     * @param capacity: int number of rows to allocate before the table has to grow.
+     */
+    public EntityStore(int capacity) {
+        allocate(Math.max(1, capacity));
+    }
+
+    /**
+     * Adds a row for a newly constructed object.
+     * Called by the GameObject constructor.
+     * @param handle: GameObject owning the row.
+     * @param initialX: double value of initial X position.
+     * @param initialY: double value of initial Y position.
+     * @return int index of the row.
+     */
+    int add(GameObject handle, double initialX, double initialY) {
+        if (size == handles.length) {
+            allocate(size * 2);
+        }
+        int i = size++;
+        handles[i] = handle;
+        x[i] = previousX[i] = initialX;
+        y[i] = previousY[i] = initialY;
+        radius[i] = 0;
+        value[i] = 0;
+        state[i] = ACTIVE;
+        speed[i] = displacement[i] = maxDisplacement[i] = 0;
+        movingRight[i] = false;
+        gridId[i] = NO_GRID;
+        return i;
+    }
+
+    /**
+     * Moves the live rows of another table of the same type to the end of this table.
+     * The objects of the other table become handles to their new rows, and the other table is left empty.
+     * @param other: EntityStore of the same type, e.g. of a chunk built in the background.
+     */
+    public void addAll(EntityStore<T> other) {
+        if (size + other.size > handles.length) {
+            allocate(Math.max(size + other.size, size * 2));
+        }
+        for (int j = 0; j < other.size; j++) {
+            if (other.state[j] != DEAD) {
+                copyRow(other, j, size);
+                handles[size].bind(this, size);
+                size++;
+            }
+        }
+        randomMovement |= other.randomMovement;
+        if (other.grid != null) {
+            grid = other.grid;
+        }
+        Arrays.fill(other.handles, 0, other.size, null);
+        other.size = 0;
+    }
+
+    /**
+     * Performs a state update of every live row and drops the rows that died.
+     * Each row's position is saved for interpolation, then objects moving randomly are moved by the table, and
+     * objects that are no longer active run their own move method, e.g. collected coins flying away.
+     * @return boolean value if any object died during this update.
+     */
+    public boolean update() {
+        boolean died = false;
+        int i = 0;
+        while (i < size) {
+            if (state[i] != DEAD) {
+                previousX[i] = x[i];
+                previousY[i] = y[i];
+                if (randomMovement) {
+                    moveRandomly(i);
+                } else if (state[i] == DYING) {
+                    handles[i].move();
+                }
+            }
+            /**
+             * The last live row takes the place of a dead one and is updated next.
+             */
+            if (state[i] == DEAD) {
+                removeRow(i);
+                died = true;
+            } else {
+                i++;
+            }
+        }
+        return died;
+    }
+
+    /**
+     * Performs the same state update as update(), moving the rows of a large table with random movement on fork
+     * join workers. Random movement never kills a row, so the dead rows are dropped first in the same order as
+     * update() drops them, then the rows are moved in parallel, then the collision grid is notified in row order.
+     * @param pool: ForkJoinPool to run the workers in.
+     * @param minRows: int number of rows below which the table is updated on the calling thread, also the smallest
+     *               range of rows given to a worker.
+     * @return boolean value if any object died during this update.
+     */
+    public boolean update(ForkJoinPool pool, int minRows) {
+        if (!randomMovement || size < minRows) {
+            return update();
+        }
+        boolean died = false;
+        int i = 0;
+        while (i < size) {
+            if (state[i] == DEAD) {
+                removeRow(i);
+                died = true;
+            } else {
+                i++;
+            }
+        }
+        pool.invoke(new ParallelMove(this, 0, size, minRows));
+        for (i = 0; i < size; i++) {
+            if (gridId[i] != NO_GRID) {
+                grid.moved(gridId[i], x[i], y[i]);
+            }
+        }
+        return died;
+    }
+
+    /**
+     * Saves the positions of a range of rows and moves them randomly, without notifying the collision grid.
+     * Called by ParallelMove workers, each on a separate range.
+     * @param start: int index of the first row.
+     * @param end: int index after the last row.
+     */
+    void moveRange(int start, int end) {
+        for (int i = start; i < end; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            stepRandomly(i);
+        }
+    }
+
+    /**
+     * Moves a row within its random displacement range, reversing direction at either end.
+     * @param i: int index of the row.
+     */
+    public void moveRandomly(int i) {
+        stepRandomly(i);
+        if (gridId[i] != NO_GRID) {
+            grid.moved(gridId[i], x[i], y[i]);
+        }
+    }
+
+    private void stepRandomly(int i) {
+        if (Math.abs(displacement[i]) >= maxDisplacement[i]) {
+            speed[i] = -speed[i]; // Reverse direction
+        }
+        x[i] += movingRight[i] ? speed[i] : -speed[i];
+        displacement[i] += speed[i];
+    }
+
+    /**
+     * Enables random movement of a row.
+     * @param i: int index of the row.
+     * @param randomSpeed: double value of speed.
+     * @param maxRandomDisplacement: int value of maximum displacement from the initial position.
+     * @param startMovingRight: boolean value if the row starts moving right.
+     */
+    public void setRandomMovement(int i, double randomSpeed, int maxRandomDisplacement, boolean startMovingRight) {
+        randomMovement = true;
+        speed[i] = randomSpeed;
+        maxDisplacement[i] = maxRandomDisplacement;
+        movingRight[i] = startMovingRight;
+    }
+
+    /**
+     * Moves a row by the given displacement, notifying the collision grid.
+     * @param i: int index of the row.
+     * @param dx: double value of horizontal displacement.
+     * @param dy: double value of vertical displacement.
+     */
+    public void translate(int i, double dx, double dy) {
+        setPosition(i, x[i] + dx, y[i] + dy);
+    }
+
+    /**
+     * Moves a row to the given position, notifying the collision grid.
+     * @param i: int index of the row.
+     * @param newX: double value of new X position.
+     * @param newY: double value of new Y position.
+     */
+    public void setPosition(int i, double newX, double newY) {
+        x[i] = newX;
+        y[i] = newY;
+        if (gridId[i] != NO_GRID) {
+            grid.moved(gridId[i], newX, newY);
+        }
+    }
+
+    /**
+     * Records the current position of a row as the start of the next state update.
+     * @param i: int index of the row.
+     */
+    public void savePosition(int i) {
+        previousX[i] = x[i];
+        previousY[i] = y[i];
+    }
+
+    /**
+     * Registers the collision grid that must be notified when a row moves.
+     * @param i: int index of the row.
+     * @param collisionGrid: SpatialHash the row's object was inserted into.
+     * @param id: int id of the object within the grid.
+     */
+    public void attachToGrid(int i, SpatialHash collisionGrid, int id) {
+        grid = collisionGrid;
+        gridId[i] = id;
+    }
+
+    /**
+     * Moves a row to a later stage of its lifecycle, removing it from the collision grid once it is not active.
+     * @param i: int index of the row.
+     * @param newState: EntityState after the current one.
+     */
+    public void setState(int i, EntityState newState) {
+        state[i] = (byte) newState.ordinal();
+        if (newState != EntityState.ACTIVE && gridId[i] != NO_GRID) {
+            grid.remove(gridId[i]);
+            gridId[i] = NO_GRID;
+        }
+    }
+
+    /**
+     * Getters and setters for the columns of a row.
+     * @param i: int index of the row.
+     */
+    public double getX(int i) {
+        return x[i];
+    }
+    public double getY(int i) {
+        return y[i];
+    }
+    public double getPreviousX(int i) {
+        return previousX[i];
+    }
+    public double getPreviousY(int i) {
+        return previousY[i];
+    }
+    public double getRadius(int i) {
+        return radius[i];
+    }
+    public void setRadius(int i, double newRadius) {
+        radius[i] = newRadius;
+    }
+    public double getValue(int i) {
+        return value[i];
+    }
+    public void setValue(int i, double newValue) {
+        value[i] = newValue;
+    }
+    public EntityState getState(int i) {
+        return STATES[state[i]];
+    }
+    public boolean isDead(int i) {
+        return state[i] == DEAD;
+    }
+
+    /**
+     * Getter for number of live objects.
+     * @return int value of size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for the object of a row.
+     * @param index: index less than size().
+     * @return GameObject owning the row.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return (T) handles[index];
+    }
+
+    /**
+     * Swaps the last row into the place of a dead row.
+     */
+    private void removeRow(int i) {
+        handles[i].bind(REMOVED, 0);
+        size--;
+        if (i < size) {
+            copyRow(this, size, i);
+            handles[i].bind(this, i);
+        }
+        handles[size] = null;
+    }
+
+    private void copyRow(EntityStore<?> from, int j, int i) {
+        handles[i] = from.handles[j];
+        x[i] = from.x[j];
+        y[i] = from.y[j];
+        previousX[i] = from.previousX[j];
+        previousY[i] = from.previousY[j];
+        radius[i] = from.radius[j];
+        value[i] = from.value[j];
+        state[i] = from.state[j];
+        speed[i] = from.speed[j];
+        displacement[i] = from.displacement[j];
+        maxDisplacement[i] = from.maxDisplacement[j];
+        movingRight[i] = from.movingRight[j];
+        gridId[i] = from.gridId[j];
+    }
+
+    private void allocate(int capacity) {
+        if (handles == null) {
+            handles = new GameObject[capacity];
+            x = new double[capacity];
+            y = new double[capacity];
+            previousX = new double[capacity];
+            previousY = new double[capacity];
+            radius = new double[capacity];
+            value = new double[capacity];
+            state = new byte[capacity];
+            speed = new double[capacity];
+            displacement = new double[capacity];
+            maxDisplacement = new int[capacity];
+            movingRight = new boolean[capacity];
+            gridId = new int[capacity];
+        } else {
+            handles = Arrays.copyOf(handles, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            previousX = Arrays.copyOf(previousX, capacity);
+            previousY = Arrays.copyOf(previousY, capacity);
+            radius = Arrays.copyOf(radius, capacity);
+            value = Arrays.copyOf(value, capacity);
+            state = Arrays.copyOf(state, capacity);
+            speed = Arrays.copyOf(speed, capacity);
+            displacement = Arrays.copyOf(displacement, capacity);
+            maxDisplacement = Arrays.copyOf(maxDisplacement, capacity);
+            movingRight = Arrays.copyOf(movingRight, capacity);
+            gridId = Arrays.copyOf(gridId, capacity);
+        }
+    }
+}
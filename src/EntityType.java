@@ -0,0 +1,115 @@
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * A class describing an object type that can appear in a level file: the identifier used in the first column of CSV
+ * level files, how its game objects are constructed, and how the level stores them.
+ * Instances are created by the EntityRegistry.
+ * @param <T>: type of GameObject constructed.
+ */
+public class EntityType<T extends GameObject> {
+    private final int id;
+    private final String tag;
+    private final EntityFactory<T> factory;
+    private final IntFunction<T[]> arrayFactory;
+    private final boolean singleInstance;
+    private final int minLevel;
+    private final int collisionOrder;
+    private final CollisionHandler<T> collisionHandler;
+
+    /**
+     * Constructor for EntityType object.
+     * @param id: int index of the type in the registry.
+     * @param tag: String identifier of the type in level files.
+     * @param factory: EntityFactory constructing the type's objects.
+     * @param arrayFactory: function creating arrays of the type's objects, e.g. Coin[]::new.
+     * @param singleInstance: boolean value, true if a level has at most one object of this type.
+     * @param minLevel: int lowest game level the type's objects appear in.
+     * @param collisionOrder: int order in which collisions with the type's objects are handled in a state update,
+     *                      lowest first, or LevelManager.NO_COLLISION.
+     * @param collisionHandler: CollisionHandler of the player's collisions with the type's objects, or null.
+     */
+    EntityType(int id, String tag, EntityFactory<T> factory, IntFunction<T[]> arrayFactory, boolean singleInstance,
+               int minLevel, int collisionOrder, CollisionHandler<T> collisionHandler) {
+        this.id = id;
+        this.tag = tag;
+        this.factory = factory;
+        this.arrayFactory = arrayFactory;
+        this.singleInstance = singleInstance;
+        this.minLevel = minLevel;
+        this.collisionOrder = collisionOrder;
+        this.collisionHandler = collisionHandler;
+    }
+
+    /**
+     * Constructs a single game object of this type.
+     * @param config: GameConfig object to pass onto the object constructor.
+     * @param position: int array of X and Y position.
+     * @param random: SplittableRandom stream of the object.
+     * @return constructed GameObject.
+     */
+    public T create(GameConfig config, int[] position, SplittableRandom random) {
+        return factory.create(config, position, new EntityStore<>(1), random);
+    }
+
+    /**
+     * Constructs the game objects of this type at the given positions.
+     * @param config: GameConfig object to pass onto the object constructors.
+     * @param positions: 2D int array of positions, null rows are left as null objects.
+     * @param store: EntityStore to keep the objects' state in.
+     * @param random: LevelRandom of the level, giving each object its own stream.
+     * @param chunk: int index of the level chunk the objects belong to.
+     * @return array of constructed GameObjects, of the type's own array class.
+     */
+    public T[] createAll(GameConfig config, int[][] positions, EntityStore<T> store, LevelRandom random, int chunk) {
+        T[] objects = arrayFactory.apply(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            if (positions[i] != null) {
+                objects[i] = factory.create(config, positions[i], store,
+                        random.forEntity(LevelRandom.entityId(this, chunk, i)));
+            }
+        }
+        return objects;
+    }
+
+    /**
+     * Handles the player's collision with an object of this type.
+     * @param object: GameObject of this type, e.g. a candidate returned by the collision grid.
+     * @param level: LevelManager of the level.
+     */
+    @SuppressWarnings("unchecked")
+    public void collide(GameObject object, LevelManager level) {
+        collisionHandler.collide((T) object, level);
+    }
+
+    /**
+     * Creates an empty array of the type's objects.
+     * @param length: int length of the array.
+     * @return array of nulls, of the type's own array class.
+     */
+    public T[] newArray(int length) {
+        return arrayFactory.apply(length);
+    }
+
+    /**
+     * Getters for the attributes of the type.
+     */
+    public int getId() {
+        return id;
+    }
+    public String getTag() {
+        return tag;
+    }
+    public boolean isSingleInstance() {
+        return singleInstance;
+    }
+    public int getMinLevel() {
+        return minLevel;
+    }
+    public int getCollisionOrder() {
+        return collisionOrder;
+    }
+    public boolean isCollidable() {
+        return collisionHandler != null;
+    }
+}
@@ -1,50 +1,64 @@
-import bagel.util.Point;
-
-import java.util.Properties;
-
 /**
  * A subclass extending from the character parent class to represent the fireball entity.
  * Contains the attributes of a single fireball entity.
  */
 public class Fireball extends Character {
-    private final boolean MOVING_RIGHT;
-    private static int screenWidth;
-    private static double damageSize;
+    private boolean movingRight;
+    private final int screenWidth;
+    private final double damageSize;
     private boolean collided = false; // Flag to check if fireball has collided
 
     /**
      * Constructor for fireball object.
-     * @param gameProps: Properties object to access files and attribute values.
+     * Fireballs are constructed by a FireballPool and reused with launch().
+     * @param config: GameConfig object to access files and attribute values.
      * @param startingPosition: int array of initial position.
      * @param direction: boolean value if fireball should start moving right.
      */
-    public Fireball (Properties gameProps, int[] startingPosition, boolean direction) {
-        super(gameProps, "fireball", startingPosition);
-        MOVING_RIGHT = direction;
-        screenWidth = Integer.parseInt(gameProps.getProperty("windowWidth"));
-        damageSize = Double.parseDouble(gameProps.getProperty("gameObjects.fireball.damageSize"));
+    public Fireball (GameConfig config, int[] startingPosition, boolean direction) {
+        super(config, "fireball", startingPosition);
+        movingRight = direction;
+        screenWidth = config.getWindowWidth();
+        damageSize = getObjectConfig().getDamageSize();
     }
 
     /**
      * Implementation of move method for fireballs.
+     * Fireballs travel relative to the screen, so they also follow the camera's scrolling.
+     * @param scrollDelta: double value of distance the camera scrolled in this state update.
      */
-    public void move() {
+    public void move(double scrollDelta) {
         /**
-         * Checks the MOVING_RIGHT value and move accordingly.
+         * Checks the movingRight value and move accordingly.
          */
-        if (MOVING_RIGHT) {
-            updatePosition(new Point(getPosition().x + getSPEED(), getPosition().y));
+        if (movingRight) {
+            translate(getSPEED() + scrollDelta, 0);
         } else {
-            updatePosition(new Point(getPosition().x - getSPEED(), getPosition().y));
+            translate(-getSPEED() + scrollDelta, 0);
         }
     }
 
+    /**
+     * Resets the fireball to start a new flight from the given position.
+     * @param x: double value of starting X position.
+     * @param y: double value of starting Y position.
+     * @param direction: boolean value if fireball should move right.
+     */
+    public void launch(double x, double y, boolean direction) {
+        setPosition(x, y);
+        savePosition();
+        movingRight = direction;
+        collided = false;
+    }
+
     /**
      * Checks if fireball is out of the window.
+     * @param camera: Camera object of the current view.
      * @return boolean value.
      */
-    public boolean isOffScreen() {
-        return getPosition().x < 0 || getPosition().x > screenWidth;
+    public boolean isOffScreen(Camera camera) {
+        double screenX = camera.toScreenX(getX());
+        return screenX < 0 || screenX > screenWidth;
     }
 
     /**
@@ -0,0 +1,88 @@
+/**
+ * A fixed-capacity pool of fireballs owned by a Shootable object.
+ * All fireballs are constructed up front. Active fireballs are kept packed at the front of the array, and a
+ * finished fireball is swapped with the last active one, so the tail of the array is the free list and shooting
+ * or removing a fireball never allocates.
+ */
+public class FireballPool {
+    private final Fireball[] fireballs;
+    private int size;
+
+    /**
+     * Constructor for FireballPool object.
+     * @param config: GameConfig object to construct the fireballs and read the pool size.
+     */
+    public FireballPool(GameConfig config) {
+        int capacity = config.getObject("fireball").getPoolSize();
+        fireballs = new Fireball[capacity];
+        for (int i = 0; i < capacity; i++) {
+            fireballs[i] = new Fireball(config, new int[] {0, 0}, false);
+        }
+        size = 0;
+    }
+
+    /**
+     * Takes a free fireball from the pool and launches it.
+     * @param x: double value of starting X position.
+     * @param y: double value of starting Y position.
+     * @param movingRight: boolean value if the fireball should move right.
+     * @return the launched Fireball, or null if every fireball is already in flight.
+     */
+    public Fireball spawn(double x, double y, boolean movingRight) {
+        if (size == fireballs.length) {
+            return null;
+        }
+        Fireball fireball = fireballs[size++];
+        fireball.launch(x, y, movingRight);
+        return fireball;
+    }
+
+    /**
+     * Moves all fireballs in flight and returns those that are off screen or have collided to the pool.
+     * @param camera: Camera object of the current view.
+     */
+    public void update(Camera camera) {
+        int i = 0;
+        while (i < size) {
+            Fireball fireball = fireballs[i];
+            fireball.savePosition();
+            fireball.move(camera.getScrollDelta());
+            /**
+             * Remove fireball if off screen or has collided with target.
+             * The last fireball in flight takes its slot and is updated next.
+             */
+            if (fireball.isOffScreen(camera) || fireball.hasCollided()) {
+                size--;
+                fireballs[i] = fireballs[size];
+                fireballs[size] = fireball;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Getter for number of fireballs in flight.
+     * @return int value of size.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for a fireball in flight.
+     * @param index: index less than size().
+     * @return Fireball in flight.
+     */
+    public Fireball get(int index) {
+        return fireballs[index];
+    }
+
+    /**
+     * Getter for maximum number of fireballs in flight.
+     * @return int value of capacity.
+     */
+    public int capacity() {
+        return fireballs.length;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * An accumulator that decides how many fixed length state updates to run for each rendered frame.
+ * Elapsed real time is added every frame and consumed in whole ticks, so the game runs at the same speed regardless
+ * of the display refresh rate. If rendering falls too far behind, at most a fixed number of ticks are run per frame
+ * and the remaining time is dropped, so a slow frame can not cause ever longer catch ups.
+ */
+public class FixedTimestep {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private final long tickNanos;
+    private final int maxTicksPerFrame;
+    private long lastTime;
+    private long accumulator;
+    private boolean started;
+
+    /**
+     * Constructor for FixedTimestep object.
+     * @param tickRate: int value of state updates per second.
+     * @param maxTicksPerFrame: int value of the maximum state updates run to catch up in a single frame.
+     */
+    public FixedTimestep(int tickRate, int maxTicksPerFrame) {
+        if (tickRate <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Tick rate and maximum ticks per frame must be positive");
+        }
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+        reset();
+    }
+
+    /**
+     * Restarts timing from the next frame, e.g. after loading a level, so the time spent before is not caught up.
+     */
+    public void reset() {
+        started = false;
+        accumulator = 0;
+    }
+
+    /**
+     * Adds the time elapsed since the previous frame and returns the number of state updates due.
+     * The first frame after a reset runs a single state update.
+     * @param now: long value of the current time in nanoseconds, e.g. from System.nanoTime().
+     * @return int number of state updates to run this frame.
+     */
+    public int advance(long now) {
+        if (!started) {
+            started = true;
+            lastTime = now;
+            accumulator = 0;
+            return 1;
+        }
+        accumulator += now - lastTime;
+        lastTime = now;
+
+        int ticks = (int) Math.min(accumulator / tickNanos, maxTicksPerFrame);
+        accumulator -= ticks * tickNanos;
+
+        /**
+         * Drop the time that could not be caught up with.
+         */
+        if (accumulator >= tickNanos) {
+            accumulator = tickNanos - 1;
+        }
+        return ticks;
+    }
+
+    /**
+     * Getter for how far the current frame is between the previous and the next state update.
+     * @return double value from 0 to 1, used to interpolate rendering.
+     */
+    public double getAlpha() {
+        return (double) accumulator / tickNanos;
+    }
+}
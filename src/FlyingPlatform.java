@@ -1,10 +1,6 @@
-import bagel.Input;
-import bagel.Keys;
-import bagel.util.Point;
 import bagel.util.Rectangle;
 
-import java.util.Properties;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * A subclass extending from the Platform parent class and implements the RandomMovable interface.
@@ -13,54 +9,46 @@ import java.util.Random;
 
 public class FlyingPlatform extends Platform implements RandomMovable {
     private final int HALF_LENGTH, HALF_HEIGHT;
-    private int currentDisplacement = 0;
-    private final int maxDisplacement;
-    private boolean movingRight;
-    private static final Random random = new Random();
-    private int randomSpeed;
 
 
     /**
      * Constructor for flying platform.
-     * @param gameProps: Properties object to access files and attribute values.
+     * @param config: GameConfig object to access files and attribute values.
      * @param platformPosition: int array of initial position.
+     * @param store: EntityStore of flying platforms, holding the random movement as well as the position.
+     * @param random: SplittableRandom stream of the platform, picking its initial direction.
      */
-    public FlyingPlatform(Properties gameProps, String objectType, int[] platformPosition) {
-        super(gameProps, objectType, platformPosition);
-        HALF_LENGTH = Integer.parseInt(gameProps.getProperty("gameObjects.flyingPlatform.halfLength"));
-        HALF_HEIGHT = Integer.parseInt(gameProps.getProperty("gameObjects.flyingPlatform.halfHeight"));
-        maxDisplacement = Integer.parseInt(gameProps.getProperty("gameObjects.flyingPlatform.maxRandomDisplacementX"));
-        randomSpeed = Integer.parseInt(gameProps.getProperty("gameObjects.flyingPlatform.randomSpeed"));
+    public FlyingPlatform(GameConfig config, String objectType, int[] platformPosition, EntityStore<?> store,
+                          SplittableRandom random) {
+        super(config, objectType, platformPosition, store);
+        HALF_LENGTH = getObjectConfig().getHalfLength();
+        HALF_HEIGHT = getObjectConfig().getHalfHeight();
 
         /**
          * Sets random movement direction randomly.
          */
-        this.movingRight = random.nextBoolean();
+        getStore().setRandomMovement(getRow(), getObjectConfig().getRandomSpeed(),
+                getObjectConfig().getMaxRandomDisplacementX(), random.nextBoolean());
     }
 
     /**
      * Implementation of move method for flying platforms.
-     * @param input: User's keyboard input.
      */
-    public void move(Input input) {
-        if (input.isDown(Keys.RIGHT)) {
-            updatePosition(new Point(this.getPosition().x - this.getSPEED(), this.getPosition().y));
-        }
-        if (input.isDown(Keys.LEFT)) {
-            /**
-             * Check if out of bounds.
-             */
-            if (getPosition().x < getINITIAL_POSITION().x) {
-                updatePosition(new Point(getPosition().x + getSPEED(), getPosition().y));
-            }
-        }
-
-        /**
-         * Call method to move randomly.
-         */
+    @Override
+    public void move() {
         moveRandomly();
     }
 
+    /**
+     * Flying platforms always scroll with the camera, unlike the main platform.
+     * @param queue: RenderQueue to submit the draw to.
+     * @param camera: Camera object of the current view.
+     */
+    @Override
+    public void render(RenderQueue queue, Camera camera) {
+        queue.submit(getObjectImage(), getScreenX(camera), getScreenY(camera));
+    }
+
     /**
      * Getter for platform half height.
      * Used to detect collision and set new position.
@@ -85,27 +73,10 @@ public class FlyingPlatform extends Platform implements RandomMovable {
      */
     public void moveRandomly() {
         /**
-         * Reverses direction if reached maximum displacement.
-         */
-        if (Math.abs(currentDisplacement) >= maxDisplacement) {
-            randomSpeed = -randomSpeed;
-        }
-
-        /**
-         * Move according to direction.
-         */
-        if (movingRight) {
-            int newX = (int) (getPosition().x + randomSpeed);
-            updatePosition(new Point(newX, getPosition().y));
-        } else {
-            int newX = (int) (getPosition().x - randomSpeed);
-            updatePosition(new Point(newX, getPosition().y));
-        }
-
-        /**
-         * Increment speed to displacement.
+         * Reverses direction if reached maximum displacement, and moves according to direction.
+         * Flying platforms in a level are moved in bulk by their EntityStore.
          */
-        currentDisplacement += randomSpeed;
+        getStore().moveRandomly(getRow());
     }
 
 }
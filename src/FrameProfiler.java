@@ -0,0 +1,147 @@
+import java.io.PrintStream;
+
+/**
+ * A class timing each phase of the state updates and rendering of the game with System.nanoTime.
+ * Every phase is recorded into its own LatencyHistogram, so the profiler uses the same memory however long the game
+ * runs, and reports the median, the 99th and 99.9th percentiles and the maximum of each phase.
+ * The heap memory allocated by each state update is measured as well, since a state update that allocates
+ * eventually causes a garbage collection pause.
+ */
+public class FrameProfiler {
+    public static final int STREAMING = 0, COLLISIONS = 1, BOSS_ACTIVATION = 2, MOVE_OBJECTS = 3, GAME_SCREEN = 4,
+            RENDER_OBJECTS = 5, FRAME = 6;
+    private static final String[] NAMES = {"streaming", "checkCollisions", "checkBossActivated", "moveObjects",
+            "renderGameScreen", "renderObjects", "frame"};
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private final LatencyHistogram[] histograms = new LatencyHistogram[NAMES.length];
+    private final AllocationMeter allocationMeter = new AllocationMeter();
+    private long ticks, allocatingTicks, allocatedBytes, lastTickAllocation, maxTickAllocation;
+    private boolean overlayVisible;
+
+    /**
+     * Constructor for FrameProfiler object.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        overlayVisible = false;
+    }
+
+    /**
+     * Starts timing a state update and measuring the memory it allocates.
+     * @return long value of System.nanoTime() when the state update started, to time its first phase from.
+     */
+    public long startTick() {
+        allocationMeter.start();
+        return System.nanoTime();
+    }
+
+    /**
+     * Ends a state update started with startTick on the same thread, recording the memory it allocated.
+     */
+    public void endTick() {
+        lastTickAllocation = allocationMeter.stop();
+        ticks++;
+        if (lastTickAllocation > 0) {
+            allocatingTicks++;
+            allocatedBytes += lastTickAllocation;
+            maxTickAllocation = Math.max(maxTickAllocation, lastTickAllocation);
+        }
+    }
+
+    /**
+     * Records the duration of a phase that started at the given time and ended now.
+     * The end time is returned, so consecutive phases can be timed with a single call each.
+     * @param phase: int value of phase, e.g. COLLISIONS.
+     * @param startNanos: long value of System.nanoTime() when the phase started.
+     * @return long value of System.nanoTime() when the phase ended.
+     */
+    public long record(int phase, long startNanos) {
+        long now = System.nanoTime();
+        histograms[phase].record(now - startNanos);
+        return now;
+    }
+
+    /**
+     * Writes a table of the recorded timings of every phase, in microseconds.
+     * @param out: PrintStream to write the table to, e.g. System.out.
+     */
+    public void printSummary(PrintStream out) {
+        out.printf("%-20s %10s %10s %10s %10s %10s%n", "phase (us)", "count", "p50", "p99", "p99.9", "max");
+        for (int i = 0; i < histograms.length; i++) {
+            LatencyHistogram histogram = histograms[i];
+            out.printf("%-20s %10d %10.1f %10.1f %10.1f %10.1f%n", NAMES[i], histogram.getCount(),
+                    histogram.getPercentile(0.5) / NANOS_PER_MICRO, histogram.getPercentile(0.99) / NANOS_PER_MICRO,
+                    histogram.getPercentile(0.999) / NANOS_PER_MICRO, histogram.getMax() / NANOS_PER_MICRO);
+        }
+        if (allocationMeter.isSupported()) {
+            out.printf("Allocated %d bytes in %d of %d state updates, at most %d bytes in one%n", allocatedBytes,
+                    allocatingTicks, ticks, maxTickAllocation);
+        }
+    }
+
+    /**
+     * Shows the overlay if it is hidden, and hides it otherwise.
+     */
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+    }
+
+    /**
+     * Getter for whether the overlay is drawn.
+     * @return boolean value, true if the overlay is visible.
+     */
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /**
+     * Getter for number of phases.
+     * @return int value of phase count.
+     */
+    public int getPhaseCount() {
+        return histograms.length;
+    }
+
+    /**
+     * Getter for name of a phase.
+     * @param phase: int value of phase.
+     * @return String of the method timed by the phase.
+     */
+    public String getName(int phase) {
+        return NAMES[phase];
+    }
+
+    /**
+     * Getters for the memory allocated by state updates, all in bytes except the tick counts.
+     * Every allocation is reported as zero if the JVM can not measure allocation.
+     */
+    public boolean isAllocationMeasured() {
+        return allocationMeter.isSupported();
+    }
+    public long getTicks() {
+        return ticks;
+    }
+    public long getAllocatingTicks() {
+        return allocatingTicks;
+    }
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+    public long getLastTickAllocation() {
+        return lastTickAllocation;
+    }
+    public long getMaxTickAllocation() {
+        return maxTickAllocation;
+    }
+
+    /**
+     * Getter for histogram of a phase.
+     * @param phase: int value of phase.
+     * @return LatencyHistogram of the phase's durations in nanoseconds.
+     */
+    public LatencyHistogram getHistogram(int phase) {
+        return histograms[phase];
+    }
+}
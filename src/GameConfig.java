@@ -0,0 +1,392 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * An immutable, typed view of the game and message properties files.
+ * All values are parsed and validated once at startup so that no string lookups or number parsing happen during
+ * state updates. Missing or malformed values fail fast with an IllegalArgumentException naming the property.
+ */
+public class GameConfig {
+    private final int windowWidth, windowHeight;
+    public static final int BASE_TICK_RATE = 60;
+    private final int tickRate, maxTicksPerFrame;
+    private final double tickScale;
+    private final long streamingThreshold;
+    private final int chunkWidth, chunksAhead, chunksBehind, chunksPrefetched;
+    private final boolean parallelTick;
+    private final int parallelMinRows;
+    private final long randomSeed;
+    private final String recordingFile;
+    private final String font, backgroundImage;
+    private final String[] levelFiles;
+    private final TextConfig title, score, message, instruction, playerHealth, enemyBossHealth, profiler;
+    private final String titleMessage, instructionMessage, healthMessage, scoreMessage, gameOverMessage,
+            gameWonMessage, loadErrorMessage;
+    private final Map<String, ObjectConfig> objects = new HashMap<>();
+
+    /**
+     * Constructor for GameConfig object.
+     * @param gameProps: Properties object of app.properties.
+     * @param messageProps: Properties object of message_en.properties.
+     */
+    public GameConfig(Properties gameProps, Properties messageProps) {
+        windowWidth = parseInt(gameProps, "windowWidth");
+        windowHeight = parseInt(gameProps, "windowHeight");
+        font = require(gameProps, "font");
+        backgroundImage = require(gameProps, "backgroundImage");
+
+        /**
+         * Speeds and frame counts of objects are given per state update at BASE_TICK_RATE, and scaled to the tick
+         * rate here, so the tick rate changes the precision of the game but not its speed.
+         */
+        tickRate = parseInt(gameProps, "tickRate", BASE_TICK_RATE);
+        maxTicksPerFrame = parseInt(gameProps, "maxTicksPerFrame", 5);
+        if (tickRate <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Invalid timing properties");
+        }
+        tickScale = (double) BASE_TICK_RATE / tickRate;
+
+        /**
+         * Level files larger than the threshold are streamed in chunks of the given width around the camera.
+         * Chunks further ahead or behind are prefetched in the background, so they are usually ready when they join.
+         */
+        streamingThreshold = parseInt(gameProps, "streaming.thresholdBytes", 8 * 1024 * 1024);
+        chunkWidth = parseInt(gameProps, "streaming.chunkWidth", 1024);
+        chunksAhead = parseInt(gameProps, "streaming.chunksAhead", 2);
+        chunksBehind = parseInt(gameProps, "streaming.chunksBehind", 1);
+        chunksPrefetched = parseInt(gameProps, "streaming.chunksPrefetched", 1);
+        if (chunkWidth <= 0 || chunksAhead < 0 || chunksBehind < 0 || chunksPrefetched < 0) {
+            throw new IllegalArgumentException("Invalid streaming properties");
+        }
+
+        /**
+         * Large tables of objects can be updated on all cores, with the same results as a sequential update.
+         */
+        parallelTick = parseBoolean(gameProps, "parallel.enabled", false);
+        parallelMinRows = parseInt(gameProps, "parallel.minRows", 65536);
+        if (parallelMinRows <= 0) {
+            throw new IllegalArgumentException("Invalid parallel properties");
+        }
+
+        /**
+         * Random behaviour of every level is derived from one seed, a fixed seed reproduces a session exactly.
+         */
+        randomSeed = gameProps.getProperty("randomSeed") == null
+                ? LevelRandom.newSeed() : parseLong(gameProps, "randomSeed");
+
+        /**
+         * Sessions are recorded to the given file on exit, an empty value turns recording off.
+         */
+        String recording = gameProps.getProperty("recording.file", "").trim();
+        recordingFile = recording.isEmpty() ? null : recording;
+
+        /**
+         * Levels are numbered from 1 and read until the first missing level file.
+         */
+        List<String> levels = new ArrayList<>();
+        while (gameProps.getProperty("level" + (levels.size() + 1) + "File") != null) {
+            levels.add(gameProps.getProperty("level" + (levels.size() + 1) + "File"));
+        }
+        levelFiles = levels.toArray(new String[0]);
+
+        title = new TextConfig(gameProps, "title");
+        score = new TextConfig(gameProps, "score");
+        message = new TextConfig(gameProps, "message");
+        instruction = new TextConfig(gameProps, "instruction");
+        playerHealth = new TextConfig(gameProps, "playerHealth");
+        enemyBossHealth = new TextConfig(gameProps, "enemyBossHealth");
+        profiler = new TextConfig(gameProps, "profiler");
+
+        titleMessage = require(messageProps, "title");
+        instructionMessage = require(messageProps, "instruction");
+        healthMessage = require(messageProps, "health");
+        scoreMessage = require(messageProps, "score");
+        gameOverMessage = require(messageProps, "gameOver");
+        gameWonMessage = require(messageProps, "gameWon");
+        loadErrorMessage = require(messageProps, "loadError");
+
+        /**
+         * Parse every object type along with the attributes its class relies on.
+         */
+        addObject(new ObjectConfig(gameProps, "player", tickScale, "imageLeft", "radius", "health"));
+        addObject(new ObjectConfig(gameProps, "enemy", tickScale, "radius", "damageSize", "maxRandomDisplacementX",
+                "randomSpeed"));
+        addObject(new ObjectConfig(gameProps, "enemyBoss", tickScale, "radius", "health", "activationRadius"));
+        addObject(new ObjectConfig(gameProps, "platform", tickScale));
+        addObject(new ObjectConfig(gameProps, "flyingPlatform", tickScale, "maxRandomDisplacementX", "halfLength",
+                "halfHeight", "randomSpeed"));
+        addObject(new ObjectConfig(gameProps, "coin", tickScale, "radius", "value"));
+        addObject(new ObjectConfig(gameProps, "fireball", tickScale, "radius", "damageSize", "poolSize"));
+        addObject(new ObjectConfig(gameProps, "doubleScore", tickScale, "radius", "maxFrames"));
+        addObject(new ObjectConfig(gameProps, "invinciblePower", tickScale, "radius", "maxFrames"));
+        addObject(new ObjectConfig(gameProps, "endFlag", tickScale, "radius"));
+    }
+
+    private void addObject(ObjectConfig objectConfig) {
+        objects.put(objectConfig.getType(), objectConfig);
+    }
+
+    /**
+     * Getter for the attributes of an object type.
+     * Only called when constructing objects, never during state updates.
+     * @param type: String of object type, e.g. "coin".
+     * @return ObjectConfig of the object type.
+     */
+    public ObjectConfig getObject(String type) {
+        ObjectConfig objectConfig = objects.get(type);
+        if (objectConfig == null) {
+            throw new IllegalArgumentException("Unknown object type: " + type);
+        }
+        return objectConfig;
+    }
+
+    /**
+     * Getter for the attributes of all object types.
+     * @return Collection of ObjectConfig, one per object type.
+     */
+    public Collection<ObjectConfig> getObjects() {
+        return objects.values();
+    }
+
+    /**
+     * Getter for the CSV file of a level.
+     * @param level: level number, starting from 1.
+     * @return String of path to level file.
+     */
+    public String getLevelFile(int level) {
+        if (level < 1 || level > levelFiles.length) {
+            throw new IllegalArgumentException("No file configured for level " + level);
+        }
+        return levelFiles[level - 1];
+    }
+
+    /**
+     * Getter for the number of configured levels.
+     * @return int value of level count.
+     */
+    public int getLevelCount() {
+        return levelFiles.length;
+    }
+
+    /**
+     * Getters for window, timing, streaming, parallel update, random seed, recording, font and screen layout values.
+     */
+    public int getWindowWidth() {
+        return windowWidth;
+    }
+    public int getWindowHeight() {
+        return windowHeight;
+    }
+    public int getTickRate() {
+        return tickRate;
+    }
+    public int getMaxTicksPerFrame() {
+        return maxTicksPerFrame;
+    }
+    public double getTickScale() {
+        return tickScale;
+    }
+    public long getStreamingThreshold() {
+        return streamingThreshold;
+    }
+    public int getChunkWidth() {
+        return chunkWidth;
+    }
+    public int getChunksAhead() {
+        return chunksAhead;
+    }
+    public int getChunksBehind() {
+        return chunksBehind;
+    }
+    public int getChunksPrefetched() {
+        return chunksPrefetched;
+    }
+    public boolean isParallelTick() {
+        return parallelTick;
+    }
+    public int getParallelMinRows() {
+        return parallelMinRows;
+    }
+    public long getRandomSeed() {
+        return randomSeed;
+    }
+    public String getRecordingFile() {
+        return recordingFile;
+    }
+    public String getFont() {
+        return font;
+    }
+    public String getBackgroundImage() {
+        return backgroundImage;
+    }
+    public TextConfig getTitle() {
+        return title;
+    }
+    public TextConfig getScore() {
+        return score;
+    }
+    public TextConfig getMessage() {
+        return message;
+    }
+    public TextConfig getInstruction() {
+        return instruction;
+    }
+    public TextConfig getPlayerHealth() {
+        return playerHealth;
+    }
+    public TextConfig getEnemyBossHealth() {
+        return enemyBossHealth;
+    }
+    public TextConfig getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Scales a speed given per state update at BASE_TICK_RATE to the configured tick rate.
+     * @param speed: double value of distance per state update at BASE_TICK_RATE.
+     * @return double value of distance per state update.
+     */
+    public double scaleSpeed(double speed) {
+        return speed * tickScale;
+    }
+
+    /**
+     * Scales an acceleration given per state update at BASE_TICK_RATE to the configured tick rate.
+     * Both the updates per second and the change in speed of each update scale, so the scale is applied twice.
+     * @param acceleration: double value of change in speed per state update at BASE_TICK_RATE.
+     * @return double value of change in speed per state update.
+     */
+    public double scaleAcceleration(double acceleration) {
+        return acceleration * tickScale * tickScale;
+    }
+
+    /**
+     * Scales a number of state updates at BASE_TICK_RATE to the configured tick rate.
+     * @param ticks: int value of state updates at BASE_TICK_RATE.
+     * @return int value of state updates lasting the same time, at least one.
+     */
+    public int scaleTicks(int ticks) {
+        return Math.max(1, (int) Math.round(ticks / tickScale));
+    }
+
+    /**
+     * Getters for the displayed messages.
+     */
+    public String getTitleMessage() {
+        return titleMessage;
+    }
+    public String getInstructionMessage() {
+        return instructionMessage;
+    }
+    public String getHealthMessage() {
+        return healthMessage;
+    }
+    public String getScoreMessage() {
+        return scoreMessage;
+    }
+    public String getGameOverMessage() {
+        return gameOverMessage;
+    }
+    public String getGameWonMessage() {
+        return gameWonMessage;
+    }
+    public String getLoadErrorMessage() {
+        return loadErrorMessage;
+    }
+
+    /**
+     * Helper function to read a property that must be present.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @return String value of property.
+     */
+    static String require(Properties props, String key) {
+        String value = props.getProperty(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing property: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Helper function to parse a required integer property.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @return int value of property.
+     */
+    static int parseInt(Properties props, String key) {
+        String value = require(props, key);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + key + ": " + value);
+        }
+    }
+
+    /**
+     * Helper function to parse an optional integer property.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @param defaultValue: value used if the property is missing.
+     * @return int value of property.
+     */
+    static int parseInt(Properties props, String key, int defaultValue) {
+        return props.getProperty(key) == null ? defaultValue : parseInt(props, key);
+    }
+
+    /**
+     * Helper function to parse a required long integer property.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @return long value of property.
+     */
+    static long parseLong(Properties props, String key) {
+        String value = require(props, key);
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid integer for " + key + ": " + value);
+        }
+    }
+
+    /**
+     * Helper function to parse an optional boolean property.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @param defaultValue: value used if the property is missing.
+     * @return boolean value of property.
+     */
+    static boolean parseBoolean(Properties props, String key, boolean defaultValue) {
+        String value = props.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!value.trim().equals("true") && !value.trim().equals("false")) {
+            throw new IllegalArgumentException("Invalid boolean for " + key + ": " + value);
+        }
+        return value.trim().equals("true");
+    }
+
+    /**
+     * Helper function to parse an optional decimal property.
+     * @param props: Properties object to read from.
+     * @param key: property key.
+     * @param defaultValue: value used if the property is missing.
+     * @return double value of property.
+     */
+    static double parseDouble(Properties props, String key, double defaultValue) {
+        String value = props.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + value);
+        }
+    }
+}
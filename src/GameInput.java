@@ -0,0 +1,21 @@
+import bagel.Keys;
+
+/**
+ * An interface for the keyboard state read by the game logic each state update.
+ * Decouples game objects from bagel's Input so that the simulation can be driven without a window.
+ */
+public interface GameInput {
+    /**
+     * Checks if a key is currently held down.
+     * @param key: key to check.
+     * @return boolean value if key is held.
+     */
+    boolean isDown(Keys key);
+
+    /**
+     * Checks if a key was pressed during this state update.
+     * @param key: key to check.
+     * @return boolean value if key was pressed.
+     */
+    boolean wasPressed(Keys key);
+}
@@ -1,95 +1,209 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
 import bagel.util.Point;
 
-import java.util.Properties;
-
 /**
  * Abstract parent class for game objects.
  * This class is abstract since it is impossible to instantiate a general game object. A game object must be of a
  * specific object type to retrieve images and properties.
+ * The state that changes every update, such as the position and lifecycle state, is kept in a row of an EntityStore,
+ * and a game object is a handle to that row.
  */
 
 public abstract class GameObject {
-    private Image objectImage;
+    private Sprite objectImage;
     private final Point INITIAL_POSITION;
-    private Point position;
-    private final int SPEED;
+    private final double INITIAL_X, INITIAL_Y;
+    private final double SPEED;
+    private final ObjectConfig objectConfig;
+    private EntityStore<?> store;
+    private int row;
 
     /**
-     * General constructor for GameObjects.
-     * @param game_props: Properties object to access file names and attribute values.
+     * General constructor for GameObjects with a single instance, each keeping its state in a table of its own.
+     * @param config: GameConfig object to access file names and attribute values.
      * @param objectType: String of specific object type to access correct attributes.
      * @param objectCoord: int array of initial position.
      */
-    public GameObject(Properties game_props, String objectType, int[] objectCoord) {
-        String imageName;
+    public GameObject(GameConfig config, String objectType, int[] objectCoord) {
+        this(config, objectType, objectCoord, new EntityStore<>(1));
+    }
 
+    /**
+     * General constructor for GameObjects.
+     * @param config: GameConfig object to access file names and attribute values.
+     * @param objectType: String of specific object type to access correct attributes.
+     * @param objectCoord: int array of initial position.
+     * @param store: EntityStore of the object's type to keep the object's state in.
+     */
+    public GameObject(GameConfig config, String objectType, int[] objectCoord, EntityStore<?> store) {
         /**
-         * Access image name according to object type.
-         * Player has a different image name format.
+         * Access attributes according to object type.
+         * Player's image is its right facing image and it does not scroll.
          */
-        if ("player".equals(objectType)) {
-            imageName = game_props.getProperty("gameObjects." + objectType + ".imageRight");
-            SPEED = 0;
-
-        } else {
-            imageName = game_props.getProperty("gameObjects." + objectType + ".image");
-            SPEED = Integer.parseInt(game_props.getProperty("gameObjects." + objectType + ".speed"));
-        }
+        objectConfig = config.getObject(objectType);
+        SPEED = objectConfig.getSpeed();
 
         /**
          * Set attributes.
          */
-        objectImage = new Image(imageName);
-        position = new Point(objectCoord[0], objectCoord[1]);
-        INITIAL_POSITION = new Point(objectCoord[0], objectCoord[1]);
+        objectImage = AssetCache.getSprite(objectConfig.getImage());
+        INITIAL_X = objectCoord[0];
+        INITIAL_Y = objectCoord[1];
+        INITIAL_POSITION = new Point(INITIAL_X, INITIAL_Y);
+        this.store = store;
+        row = store.add(this, INITIAL_X, INITIAL_Y);
+
+    }
+
+    /**
+     * General implementation of move method to perform a state update.
+     * Objects stay at fixed world coordinates while the Camera scrolls, so by default nothing moves.
+     */
+    public void move() {
+    }
 
+    /**
+     * Records the current position as the start of the next state update.
+     * Called before moving the object, so that rendering can interpolate between the two positions.
+     */
+    public void savePosition() {
+        store.savePosition(row);
+    }
+
+    /**
+     * Moves the object in place by the given displacement.
+     * @param dx: double value of horizontal displacement.
+     * @param dy: double value of vertical displacement.
+     */
+    public void translate(double dx, double dy) {
+        store.translate(row, dx, dy);
     }
 
     /**
-     * General implementation of move method to respond to user keyboard input.
-     * @param input: user's keyboard input.
+     * Moves the object in place to the given position.
+     * @param newX: double value of new X position.
+     * @param newY: double value of new Y position.
      */
-    public void move(Input input) {
-        if (input.isDown(Keys.RIGHT)) {
-            updatePosition(new Point(position.x - SPEED, position.y));
-        }
-        if (input.isDown(Keys.LEFT)) {
-            if (position.x < INITIAL_POSITION.x) {
-                updatePosition(new Point(position.x + SPEED, position.y));
-            }
-        }
+    public void setPosition(double newX, double newY) {
+        store.setPosition(row, newX, newY);
+    }
+
+    /**
+     * Registers the collision grid that must be notified when this object moves.
+     * Called by SpatialHash on insertion.
+     * @param grid: SpatialHash the object was inserted into.
+     * @param gridId: int id of the object within the grid.
+     */
+    public void attachToGrid(SpatialHash grid, int gridId) {
+        store.attachToGrid(row, grid, gridId);
+    }
+
+    /**
+     * Points the object at its row after the row has moved, within its table or to another table.
+     * Called by EntityStore.
+     * @param newStore: EntityStore holding the row.
+     * @param newRow: int index of the row.
+     */
+    void bind(EntityStore<?> newStore, int newRow) {
+        store = newStore;
+        row = newRow;
+    }
+
+    /**
+     * Moves the object to a later stage of its lifecycle.
+     * Once an object is no longer active it can not collide, so it leaves the collision grid.
+     * @param newState: EntityState after the current one.
+     */
+    protected void setState(EntityState newState) {
+        store.setState(row, newState);
+    }
+
+    /**
+     * Removes the object from the level immediately, e.g. when the part of the level it belongs to is unloaded.
+     */
+    public void retire() {
+        setState(EntityState.DEAD);
+    }
+    public EntityState getState() {
+        return store.getState(row);
+    }
+    public boolean isDead() {
+        return store.isDead(row);
     }
 
     /**
      * Setters and Getters for Game Objects
      */
-    public void updatePosition(Point newPos){
-        position = new Point(newPos.x, newPos.y);
+    public void render(RenderQueue queue, Camera camera) {
+        queue.submit(objectImage, getScreenX(camera), getScreenY(camera));
     }
-    public void render() {
-        objectImage.draw(position.x, position.y);
+
+    /**
+     * Getter for the X position to draw the object at, interpolated between the last two state updates.
+     * @param camera: Camera object of the current view.
+     * @return double value of X position in the window.
+     */
+    protected double getScreenX(Camera camera) {
+        return camera.toScreenX(store.getPreviousX(row), store.getX(row));
+    }
+
+    /**
+     * Getter for the Y position to draw the object at, interpolated between the last two state updates.
+     * @param camera: Camera object of the current view.
+     * @return double value of Y position in the window.
+     */
+    protected double getScreenY(Camera camera) {
+        return camera.interpolate(store.getPreviousY(row), store.getY(row));
     }
 
     /**
      * Setter for object image.
-     * @param newImage: String of path to image.
+     * Only swaps the reference, the sprite itself is shared through the AssetCache.
+     * @param newImage: Sprite to render this object with.
      */
-    public void setObjectImage(String newImage) {
-        this.objectImage = new Image(newImage);
+    public void setObjectImage(Sprite newImage) {
+        this.objectImage = newImage;
     }
-    public Image getObjectImage() {
+    public Sprite getObjectImage() {
         return objectImage;
     }
-    public int getSPEED() {
+    public ObjectConfig getObjectConfig() {
+        return objectConfig;
+    }
+    public double getSPEED() {
         return SPEED;
     }
+    public double getX() {
+        return store.getX(row);
+    }
+    public double getY() {
+        return store.getY(row);
+    }
+    public double getINITIAL_X() {
+        return INITIAL_X;
+    }
+    public double getINITIAL_Y() {
+        return INITIAL_Y;
+    }
+
+    /**
+     * Getter for a Point view of the current position.
+     * Allocates a new Point, so state updates should use getX() and getY() instead.
+     * @return Point of current position.
+     */
     public Point getPosition() {
-        return position;
+        return new Point(getX(), getY());
     }
     public Point getINITIAL_POSITION(){
         return INITIAL_POSITION;
     }
+
+    /**
+     * Getters for the table and row holding the object's state.
+     */
+    protected EntityStore<?> getStore() {
+        return store;
+    }
+    protected int getRow() {
+        return row;
+    }
 }
@@ -1,9 +1,7 @@
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.Reader;
 import java.util.Properties;
 
 /**
@@ -13,98 +11,69 @@ import java.util.Properties;
 public class IOUtils {
 
     /***
-     * Method that reads a CSV file and return a 2D String array
+     * Method that reads a level file, either a binary level file ending in .bin or a CSV file
+     * @param levelFile: the path to the level file
+     * @return CSVData of the level, or null if the file can not be read
+     */
+    public static CSVData readLevel(String levelFile) {
+        if (levelFile.endsWith(".bin")) {
+            try {
+                return LevelFormat.read(levelFile);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+        return readCsv(levelFile);
+    }
+
+    /***
+     * Method that reads a CSV file and return the positions of its objects, large files are parsed in parallel
      * @param csvFile: the path to the CSV file
-     * @return String ArrayList
+     * @return CSVData of the level, or null if the file can not be read
      */
     public static CSVData readCsv(String csvFile) {
-        // Lists to dynamically hold the data
-        ArrayList<String> platform = new ArrayList<>();
-        ArrayList<String> player = new ArrayList<>();
-        ArrayList<String> endFlag = new ArrayList<>();
-        ArrayList<String> bossEnemy = new ArrayList<>();
-        ArrayList<String[]> flyingPlatforms = new ArrayList<>();
-        ArrayList<String[]> invinciblePower = new ArrayList<>();
-        ArrayList<String[]> doubleScore = new ArrayList<>();
-        ArrayList<String[]> coins = new ArrayList<>();
-        ArrayList<String[]> enemies = new ArrayList<>();
-
-        try (BufferedReader br = new BufferedReader(new FileReader(csvFile))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] values = line.split(",");
-                // Assuming the type identifier is in the first column
-                switch (values[0]) {
-                    case "PLATFORM":
-                        platform.add(values[1]);
-                        platform.add(values[2]);
-                        break;
-                    case "PLAYER":
-                        player.add(values[1]);
-                        player.add(values[2]);
-                        break;
-                    case "END_FLAG":
-                        endFlag.add(values[1]);
-                        endFlag.add(values[2]);
-                        break;
-                    case "ENEMY_BOSS":
-                        bossEnemy.add(values[1]);
-                        bossEnemy.add(values[2]);
-                        break;
-                    case "FLYING_PLATFORM":
-                        flyingPlatforms.add(new String[]{values[1], values[2]});
-                        break;
-                    case "INVINCIBLE_POWER":
-                        invinciblePower.add(new String[]{values[1], values[2]});
-                        break;
-                    case "DOUBLE_SCORE":
-                        doubleScore.add(new String[]{values[1], values[2]});
-                        break;
-                    case "COIN":
-                        coins.add(new String[]{values[1], values[2]});
-                        break;
-                    case "ENEMY":
-                        enemies.add(new String[]{values[1], values[2]});
-                        break;
-                }
-            }
+        try {
+            return ParallelLevelParser.parse(csvFile);
         } catch (IOException e) {
             e.printStackTrace();
             return null;
         }
+    }
 
-        /**
-         * Convert Lists to arrays before passing to the CSVData constructor
-         */
-        return new CSVData(
-                listToArray(platform),
-                listToArray(player),
-                listToArray(endFlag),
-                listToArray(bossEnemy),
-                listTo2DArray(flyingPlatforms),
-                listTo2DArray(invinciblePower),
-                listTo2DArray(doubleScore),
-                listTo2DArray(coins),
-                listTo2DArray(enemies)
-        );
+    /***
+     * Method that reads CSV rows from a reader in a single pass, used for whole files and for chunks of streamed files
+     * @param reader: the reader to read rows from until its end
+     * @param source: the name of what is read, e.g. the path to the CSV file, used in error messages
+     * @param firstLine: the line number of the first row read, used in error messages
+     * @return CSVData of the rows read
+     * @throws IOException if the rows can not be read
+     */
+    public static CSVData readCsv(Reader reader, String source, long firstLine) throws IOException {
+        return new LevelParser(source).parse(reader, firstLine).toCSVData();
     }
 
-    /**
-     * Helper function to transform dynamic array to String array.
-     * @param list: takes in String list.
-     * @return String array.
+    /***
+     * Method that opens a level file for streaming, indexing it without reading its objects
+     * @param config: GameConfig object to build the level's objects with
+     * @param level: game level of the file
+     * @param csvFile: the path to the CSV file, sorted by X position
+     * @return LevelStream object
+     * @throws IOException if the file can not be read
+     * @throws IllegalArgumentException if the file is not sorted by X position
      */
-    private static String[] listToArray(List<String> list) {
-        return list.toArray(new String[0]);
+    public static LevelStream openLevelStream(GameConfig config, int level, String csvFile) throws IOException {
+        return new LevelStream(config, level, csvFile);
     }
 
-    /**
-     * Helper function to transform dynamic array to 2D String array.
-     * @param list: takes in String array list.
-     * @return 2D String array.
+    /***
+     * Method that checks whether a level file is large enough to be streamed instead of read at once
+     * @param config: GameConfig object holding the streaming threshold
+     * @param csvFile: the path to the CSV file
+     * @return boolean value, true if the file is larger than the threshold
      */
-    private static String[][] listTo2DArray(List<String[]> list) {
-        return list.toArray(new String[0][]);
+    public static boolean isStreamedLevel(GameConfig config, String csvFile) {
+        return !csvFile.endsWith(".bin") && new File(csvFile).length() > config.getStreamingThreshold();
     }
 
     /***
@@ -0,0 +1,103 @@
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * A class to read a recording written by InputRecorder, expanding its runs back into one mask per step.
+ */
+public class InputLog {
+    private final long seed;
+    private final byte[] runs;
+    private int position;
+    private int mask;
+    private long remaining;
+
+    private InputLog(long seed, byte[] runs) {
+        this.seed = seed;
+        this.runs = runs;
+    }
+
+    /**
+     * Reads a recording file.
+     * @param file: path of the recording file.
+     * @return InputLog positioned at the first step.
+     * @throws IOException if the file can not be read or is not a recording of this version.
+     */
+    public static InputLog read(String file) throws IOException {
+        long size = Files.size(Paths.get(file));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (size < 16 || in.readInt() != InputRecorder.MAGIC) {
+                throw new IOException(file + " is not an input recording");
+            }
+            int version = in.readInt();
+            if (version != InputRecorder.VERSION) {
+                throw new IOException(file + " has unsupported recording version " + version);
+            }
+            long seed = in.readLong();
+            byte[] runs = new byte[(int) (size - 16)];
+            in.readFully(runs);
+            return new InputLog(seed, runs);
+        } catch (EOFException e) {
+            throw new IOException(file + " is truncated", e);
+        }
+    }
+
+    /**
+     * Checks if there are steps left.
+     * @return boolean value, false at the end of the recording.
+     */
+    public boolean hasNext() {
+        return remaining > 0 || position < runs.length;
+    }
+
+    /**
+     * Reads the mask of the next step.
+     * @return int mask, see the InputRecorder bits.
+     * @throws IllegalStateException if the recording is corrupt or has ended.
+     */
+    public int next() {
+        if (remaining == 0) {
+            if (position >= runs.length) {
+                throw new IllegalStateException("End of input recording");
+            }
+            mask = runs[position++] & 0xff;
+            int shift = 0;
+            long run = 0;
+            byte b;
+            do {
+                if (position >= runs.length || shift > 56) {
+                    throw new IllegalStateException("Corrupt run length in input recording");
+                }
+                b = runs[position++];
+                run |= (long) (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            remaining = run;
+            if (remaining == 0) {
+                throw new IllegalStateException("Empty run in input recording");
+            }
+        }
+        remaining--;
+        return mask;
+    }
+
+    /**
+     * Goes back to the first step, e.g. to replay the recording again.
+     */
+    public void rewind() {
+        position = 0;
+        remaining = 0;
+    }
+
+    /**
+     * Getter for the random seed of the recorded session.
+     * @return long value of seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,117 @@
+import bagel.Keys;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A class to record the keyboard input of a session, so that it can be replayed without a window.
+ * Every state update and every level selection or restart is recorded as one bit mask of the keys that matter to
+ * the game. Consecutive equal masks are run length encoded in memory while recording, so a session costs a few
+ * bytes per change of input rather than per state update. A recording file is:
+ * <pre>
+ * int magic, int version, long random seed,
+ * then runs until the end of the file: byte mask, variable length int run length
+ * </pre>
+ * Run lengths are stored 7 bits per byte, low bits first, with the high bit set on all but the last byte.
+ */
+public class InputRecorder {
+    static final int MAGIC = 0x534d5250; // "SMRP"
+    static final int VERSION = 1;
+
+    /**
+     * Bits of a mask. LEFT and RIGHT are held keys, the others are key presses.
+     * A mask with a level bit selects that level, a mask with the RESTART bit returns to the start screen, and any
+     * other mask is a state update.
+     */
+    public static final int LEFT = 1, RIGHT = 1 << 1, UP = 1 << 2, SHOOT = 1 << 3,
+            LEVEL_1 = 1 << 4, LEVEL_2 = 1 << 5, LEVEL_3 = 1 << 6, RESTART = 1 << 7;
+    public static final int LEVELS = LEVEL_1 | LEVEL_2 | LEVEL_3;
+
+    private final long seed;
+    private byte[] runs = new byte[1024];
+    private int length;
+    private int currentMask = -1;
+    private long currentRun;
+
+    /**
+     * Constructor for InputRecorder object.
+     * @param seed: long value of the random seed of the session.
+     */
+    public InputRecorder(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Converts the keyboard state of a state update to a mask.
+     * @param input: GameInput read by the state update.
+     * @return int mask of the keys read by the game logic.
+     */
+    public static int mask(GameInput input) {
+        int mask = 0;
+        if (input.isDown(Keys.LEFT)) {
+            mask |= LEFT;
+        }
+        if (input.isDown(Keys.RIGHT)) {
+            mask |= RIGHT;
+        }
+        if (input.wasPressed(Keys.UP)) {
+            mask |= UP;
+        }
+        if (input.wasPressed(Keys.S)) {
+            mask |= SHOOT;
+        }
+        return mask;
+    }
+
+    /**
+     * Records a mask, extending the current run if it repeats the last mask.
+     * @param mask: int mask of a state update, level selection or restart.
+     */
+    public void record(int mask) {
+        if (mask == currentMask) {
+            currentRun++;
+            return;
+        }
+        endRun();
+        currentMask = mask;
+        currentRun = 1;
+    }
+
+    /**
+     * Writes the recording to a file.
+     * @param file: path of the recording file.
+     * @throws IOException if the file can not be written.
+     */
+    public void save(String file) throws IOException {
+        endRun();
+        currentMask = -1;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(seed);
+            out.write(runs, 0, length);
+        }
+    }
+
+    /**
+     * Helper function to append the current run to the encoded runs.
+     */
+    private void endRun() {
+        if (currentMask < 0) {
+            return;
+        }
+        if (length + 11 > runs.length) {
+            runs = Arrays.copyOf(runs, runs.length * 2);
+        }
+        runs[length++] = (byte) currentMask;
+        long run = currentRun;
+        while (run >= 0x80) {
+            runs[length++] = (byte) (run | 0x80);
+            run >>>= 7;
+        }
+        runs[length++] = (byte) run;
+    }
+}
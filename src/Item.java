@@ -1,5 +1,3 @@
-import java.util.Properties;
-
 /**
  * A parent class for item objects, inheriting from game object parent class. Game objects are classified as items
  * when they are collectable and impacts the player's gameplay. This parent class is also an abstract class since it is
@@ -7,17 +5,18 @@ import java.util.Properties;
  */
 
 public abstract class Item extends GameObject implements Collidable{
-    private final double RADIUS; // radius is final since it stays constant throughout the game
 
     /**
      * Constructor for item object.
-     * @param game_props: Properties file to access files and attribute values.
+     * The radius stays constant throughout the game.
+     * @param config: GameConfig object to access files and attribute values.
      * @param objectType: String of object type.
      * @param objectCoord: int array of object initial position.
+     * @param store: EntityStore of the item's type.
      */
-    public Item(Properties game_props, String objectType, int[] objectCoord) {
-        super(game_props, objectType, objectCoord);
-        RADIUS = Double.parseDouble(game_props.getProperty("gameObjects."+objectType+".radius"));
+    public Item(GameConfig config, String objectType, int[] objectCoord, EntityStore<?> store) {
+        super(config, objectType, objectCoord, store);
+        getStore().setRadius(getRow(), getObjectConfig().getRadius());
     }
 
     /**
@@ -27,6 +26,6 @@ public abstract class Item extends GameObject implements Collidable{
      */
     @Override
     public double getRadius() {
-        return RADIUS;
+        return getStore().getRadius(getRow());
     }
 }
@@ -0,0 +1,110 @@
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds, with a fixed amount of memory regardless of how many are recorded.
+ * Durations are counted in buckets whose width grows with the duration, so every percentile is accurate to within
+ * about 3% of its value, from single nanoseconds up to years. The exact maximum is kept separately.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 6;
+    private static final int SUB_COUNT = 1 << SUB_BITS;  // durations below this have a bucket each
+    private static final int HALF_COUNT = SUB_COUNT / 2;  // buckets per doubling of the duration above that
+    private static final int BUCKETS = SUB_COUNT + (Long.SIZE - 1 - SUB_BITS) * HALF_COUNT;
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long max;
+
+    /**
+     * Records a single duration.
+     * @param nanos: long value of duration in nanoseconds, negative durations are counted as zero.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        counts[bucket(nanos)]++;
+        count++;
+        if (nanos > max) {
+            max = nanos;
+        }
+    }
+
+    /**
+     * Returns the duration below or at which the given fraction of the recorded durations lie.
+     * @param fraction: double value between 0 and 1, e.g. 0.99 for the 99th percentile.
+     * @return long value of duration in nanoseconds, the upper end of its bucket but at most the maximum, or zero if
+     * nothing was recorded.
+     */
+    public long getPercentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    /**
+     * Getter for number of recorded durations.
+     * @return long value of count.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter for longest recorded duration.
+     * @return long value of duration in nanoseconds.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Helper function to find the bucket of a duration.
+     * Short durations have a bucket each. Longer durations keep their top SUB_BITS bits, so each doubling of the
+     * duration is split into HALF_COUNT buckets of equal width.
+     * @param nanos: long value of duration, not negative.
+     * @return int index into counts.
+     */
+    private static int bucket(long nanos) {
+        if (nanos < SUB_COUNT) {
+            return (int) nanos;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int top = (int) (nanos >>> (exponent - SUB_BITS + 1));  // between HALF_COUNT and SUB_COUNT - 1
+        return SUB_COUNT + (exponent - SUB_BITS) * HALF_COUNT + top - HALF_COUNT;
+    }
+
+    /**
+     * Helper function to find the largest duration counted in a bucket.
+     * @param bucket: int index into counts.
+     * @return long value of duration in nanoseconds.
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int exponent = (bucket - SUB_COUNT) / HALF_COUNT + SUB_BITS;
+        long top = (bucket - SUB_COUNT) % HALF_COUNT + HALF_COUNT;
+        if (exponent == Long.SIZE - 2 && top == SUB_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return ((top + 1) << (exponent - SUB_BITS + 1)) - 1;
+    }
+}
@@ -0,0 +1,139 @@
+import java.util.BitSet;
+
+/**
+ * A class holding the game objects with multiple instances in one part of a level.
+ * A whole level read at once is a single chunk, while a streamed level is split into chunks by X position. Chunks
+ * can be built on a background thread, as constructing game objects does not create any images.
+ */
+public class LevelChunk {
+    private final int index;
+    private final GameObject[][] objects; // indexed by EntityType id, empty for single instance types
+    private final EntityStore<?>[] stores;
+    private final int size;
+
+    /**
+     * Constructor for LevelChunk object.
+     * Objects are constructed through the factories of the EntityRegistry, keeping their state in an EntityStore per
+     * type until the chunk is added to a level. Each object gets a random stream of its own from the level's seed.
+     * @param config: GameConfig object to pass onto object constructors.
+     * @param level: game level of the chunk, types are only constructed from their minimum level on.
+     * @param index: int index of the chunk in the level.
+     * @param objectPositions: CSVData object of initial positions, only objects with multiple instances are used.
+     */
+    public LevelChunk(GameConfig config, int level, int index, CSVData objectPositions) {
+        this(config, level, index, objectPositions, null);
+    }
+
+    /**
+     * Constructor for LevelChunk object of a streamed level, leaving out the objects used up in play before the chunk
+     * was last unloaded. Their rows are left as null objects, so every other object keeps its row and random stream.
+     * @param config: GameConfig object to pass onto object constructors.
+     * @param level: game level of the chunk, types are only constructed from their minimum level on.
+     * @param index: int index of the chunk in the level.
+     * @param objectPositions: CSVData object of initial positions, only objects with multiple instances are used.
+     * @param usedRows: BitSet array of rows not to construct, indexed by EntityType id, or null to construct all.
+     */
+    public LevelChunk(GameConfig config, int level, int index, CSVData objectPositions, BitSet[] usedRows) {
+        this.index = index;
+        objects = new GameObject[EntityRegistry.size()][];
+        stores = new EntityStore<?>[EntityRegistry.size()];
+        LevelRandom random = new LevelRandom(config.getRandomSeed(), level);
+        int count = 0;
+        for (int i = 0; i < objects.length; i++) {
+            EntityType<?> type = EntityRegistry.get(i);
+            int[][] positions = type.isSingleInstance() || level < type.getMinLevel()
+                    ? new int[0][] : objectPositions.getPositions(type);
+            if (usedRows != null && usedRows[i] != null) {
+                positions = positions.clone();
+                for (int row = usedRows[i].nextSetBit(0); row >= 0 && row < positions.length;
+                     row = usedRows[i].nextSetBit(row + 1)) {
+                    positions[row] = null;
+                }
+            }
+            stores[i] = new EntityStore<>(positions.length);
+            objects[i] = createAll(type, config, positions, stores[i], random, index);
+            count += objects[i].length;
+        }
+        size = count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends GameObject> T[] createAll(EntityType<T> type, GameConfig config, int[][] positions,
+                                                        EntityStore<?> store, LevelRandom random, int index) {
+        return type.createAll(config, positions, (EntityStore<T>) store, random, index);
+    }
+
+    /**
+     * Removes the chunk's objects from the level when the chunk is unloaded.
+     * Objects that are no longer active, e.g. collected coins, hit enemies and collected powers, are recorded as used,
+     * so they are left out when the chunk is loaded again. Powers whose effect is still active are kept until the
+     * effect wears off.
+     * @param usedRows: BitSet array indexed by EntityType id, null entries are created as needed, to add the rows of
+     *                the objects used up in play to.
+     */
+    public void evict(BitSet[] usedRows) {
+        for (int i = 0; i < objects.length; i++) {
+            GameObject[] typeObjects = objects[i];
+            for (int row = 0; row < typeObjects.length; row++) {
+                GameObject obj = typeObjects[row];
+                if (obj == null) {
+                    continue;
+                }
+                if (obj.getState() != EntityState.ACTIVE) {
+                    if (usedRows[i] == null) {
+                        usedRows[i] = new BitSet(typeObjects.length);
+                    }
+                    usedRows[i].set(row);
+                }
+                if (!(obj instanceof Power && ((Power) obj).isActive())) {
+                    obj.retire();
+                }
+            }
+        }
+    }
+
+    /**
+     * Getter for the number of objects in the chunk.
+     * @return int value of object count, including null entries of invalid rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Getter for the chunk index.
+     * @return int index of the chunk in the level.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Getter for the objects of one type in the chunk.
+     * @param type: EntityType of the objects.
+     * @return array of GameObjects of the type's own array class, possibly with null entries.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GameObject> T[] getObjects(EntityType<T> type) {
+        return (T[]) objects[type.getId()];
+    }
+
+    /**
+     * Getter for the table of one type in the chunk by type id.
+     * The table is emptied once its rows are moved into the level's table.
+     * @param id: int id of the EntityType.
+     * @return EntityStore of the type.
+     */
+    public EntityStore<?> getStore(int id) {
+        return stores[id];
+    }
+
+    /**
+     * Getter for the objects of one type in the chunk by type id.
+     * @param id: int id of the EntityType.
+     * @return array of GameObjects, possibly with null entries.
+     */
+    public GameObject[] getObjects(int id) {
+        return objects[id];
+    }
+}
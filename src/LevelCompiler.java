@@ -0,0 +1,45 @@
+import java.io.IOException;
+
+/**
+ * An offline tool to compile CSV level files into the binary level format read by LevelFormat.
+ * Each file is written next to its CSV file with the .bin extension, e.g. res/level1.csv to res/level1.bin.
+ * Point the levelNFile properties at the .bin files to load them.
+ */
+public class LevelCompiler {
+
+    /**
+     * Entry point to compile level files.
+     * @param args: paths to CSV level files, defaults to the level files in res/app.properties.
+     */
+    public static void main(String[] args) {
+        String[] csvFiles = args;
+        if (csvFiles.length == 0) {
+            GameConfig config = new GameConfig(IOUtils.readPropertiesFile("res/app.properties"),
+                    IOUtils.readPropertiesFile("res/message_en.properties"));
+            csvFiles = new String[config.getLevelCount()];
+            for (int i = 0; i < csvFiles.length; i++) {
+                csvFiles[i] = config.getLevelFile(i + 1);
+            }
+        }
+
+        boolean failed = false;
+        for (String csvFile : csvFiles) {
+            CSVData levelData = IOUtils.readCsv(csvFile);
+            if (levelData == null) {
+                failed = true;
+                continue;
+            }
+            String binFile = csvFile.replaceFirst("\\.csv$", "") + ".bin";
+            try {
+                LevelFormat.write(levelData, binFile);
+                System.out.println("Compiled " + csvFile + " to " + binFile);
+            } catch (IOException e) {
+                e.printStackTrace();
+                failed = true;
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A class to read and write the binary level format.
+ * A binary level file is a header followed by the object positions stored as columns of packed ints, so loading it
+ * is a memory mapped read without any parsing. All values are little endian ints:
+ * <pre>
+ * magic, version, number of types,
+ * count of each type in EntityRegistry order,
+ * for each type in EntityRegistry order: count X positions, then count Y positions
+ * </pre>
+ * Files written before a type was registered have fewer types, and are read as levels without objects of the newer
+ * types.
+ */
+public class LevelFormat {
+    private static final int MAGIC = 0x564c4d53; // "SMLV"
+    private static final int VERSION = 1;
+
+    /**
+     * Writes level data to a binary level file.
+     * @param levelData: CSVData object of object positions.
+     * @param binFile: path to the binary file to write.
+     * @throws IOException if the file can not be written.
+     */
+    public static void write(CSVData levelData, String binFile) throws IOException {
+        int typeCount = EntityRegistry.size();
+        int[][][] positions = new int[typeCount][][];
+        int total = 0;
+        for (int i = 0; i < typeCount; i++) {
+            positions[i] = levelData.getPositions(EntityRegistry.get(i));
+            total += positions[i].length;
+        }
+
+        ByteBuffer bytes = ByteBuffer.allocate(4 * (3 + typeCount + 2 * total)).order(ByteOrder.LITTLE_ENDIAN);
+        bytes.putInt(MAGIC).putInt(VERSION).putInt(typeCount);
+        for (int[][] rows : positions) {
+            bytes.putInt(rows.length);
+        }
+        for (int[][] rows : positions) {
+            for (int[] row : rows) {
+                bytes.putInt(row[0]);
+            }
+            for (int[] row : rows) {
+                bytes.putInt(row[1]);
+            }
+        }
+        bytes.flip();
+
+        try (FileChannel channel = FileChannel.open(Paths.get(binFile), StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads a binary level file by memory mapping it.
+     * @param binFile: path to the binary file.
+     * @return CSVData object of object positions.
+     * @throws IOException if the file can not be read or is not a binary level file of this version.
+     */
+    public static CSVData read(String binFile) throws IOException {
+        MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(Paths.get(binFile), StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+        if (ints.remaining() < 3 || ints.get() != MAGIC) {
+            throw new IOException(binFile + " is not a binary level file");
+        }
+        int version = ints.get();
+        if (version != VERSION) {
+            throw new IOException(binFile + " has unsupported level format version " + version);
+        }
+        int typeCount = ints.get();
+        if (typeCount < 0 || typeCount > EntityRegistry.size() || ints.remaining() < typeCount) {
+            throw new IOException(binFile + " has " + typeCount + " object types, expected at most "
+                    + EntityRegistry.size());
+        }
+
+        int[] counts = new int[typeCount];
+        long total = 0;
+        for (int i = 0; i < typeCount; i++) {
+            counts[i] = ints.get();
+            total += counts[i];
+            if (counts[i] < 0) {
+                throw new IOException(binFile + " has a negative object count");
+            }
+        }
+        if (ints.remaining() != 2 * total) {
+            throw new IOException(binFile + " is truncated or has trailing data");
+        }
+
+        /**
+         * Each column is read in bulk, then paired up into the rows the object constructors take.
+         */
+        int[][][] positions = new int[typeCount][][];
+        for (int i = 0; i < typeCount; i++) {
+            int[] xs = new int[counts[i]];
+            int[] ys = new int[counts[i]];
+            ints.get(xs);
+            ints.get(ys);
+            positions[i] = new int[counts[i]][];
+            for (int j = 0; j < counts[i]; j++) {
+                positions[i][j] = new int[] {xs[j], ys[j]};
+            }
+        }
+
+        return new CSVData(positions);
+    }
+}
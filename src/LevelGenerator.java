@@ -0,0 +1,163 @@
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * An offline tool to generate large synthetic level files for scale and stress testing.
+ * Levels are written in the CSV level format, with objects of multiple instances mixed in the same proportions and at
+ * the same heights as in the hand-written levels. Their rows are written in order of X position, so large generated
+ * levels can be streamed. The same seed, count, density and level always generate the same file.
+ */
+public class LevelGenerator {
+    private static final int PLAYER_X = 100, PLAYER_Y = 687;
+    private static final int PLATFORM_X = 3000, PLATFORM_Y = 745;
+    private static final int END_FLAG_Y = 670, ENEMY_BOSS_Y = 680;
+    private static final int FIRST_X = 300;  // X position of the first object, ahead of the player
+    private static final int END_MARGIN = 500;  // distance from the last object to the end flag
+    private static final int ENEMY_BOSS_DISTANCE = 100;  // distance from the enemy boss to the end flag
+    private static final int BOSS_LEVEL = 3;
+    private static final double DEFAULT_DENSITY = 40;
+
+    /**
+     * Tags, weights and heights of the objects with multiple instances, taken from the hand-written levels.
+     * Types that appear only from a later game level are left out of earlier levels.
+     */
+    private static final String[] TAGS = {"COIN", "ENEMY", "FLYING_PLATFORM", "INVINCIBLE_POWER", "DOUBLE_SCORE"};
+    private static final int[] WEIGHTS = {88, 42, 7, 5, 6};
+    private static final int[][] HEIGHTS = {{305, 505, 510, 690}, {505, 695}, {355, 555}, {305, 505}, {305, 690}};
+
+    private final SplittableRandom random;
+    private final int level;
+    private final double density;
+    private final int[] weights;
+    private final int totalWeight;
+
+    /**
+     * Constructor for LevelGenerator object.
+     * @param seed: long value to derive all positions and object types from.
+     * @param level: game level the file is generated for, which decides the types of objects in it.
+     * @param density: double value of number of objects per 1000 pixels of level length.
+     */
+    public LevelGenerator(long seed, int level, double density) {
+        if (density <= 0) {
+            throw new IllegalArgumentException("Density must be positive, got " + density);
+        }
+        this.random = new SplittableRandom(seed);
+        this.level = level;
+        this.density = density;
+
+        /**
+         * Only types registered for this game level are generated.
+         */
+        weights = new int[TAGS.length];
+        int total = 0;
+        for (int i = 0; i < TAGS.length; i++) {
+            EntityType<?> type = EntityRegistry.find(TAGS[i]);
+            if (type != null && level >= type.getMinLevel()) {
+                weights[i] = WEIGHTS[i];
+                total += WEIGHTS[i];
+            }
+        }
+        totalWeight = total;
+    }
+
+    /**
+     * Writes a level of the given number of objects with multiple instances.
+     * The level is split into one slot per object, each object is placed at a random X position in its own slot, so
+     * the rows come out sorted without holding the level in memory.
+     * @param writer: Writer to write the CSV rows to.
+     * @param count: number of objects with multiple instances.
+     * @throws IOException if the rows can not be written.
+     */
+    public void write(Writer writer, long count) throws IOException {
+        double slot = 1000 / density;
+        long endX = FIRST_X + (long) Math.ceil(count * slot) + END_MARGIN;
+        if (endX > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Level of " + count + " objects at density " + density
+                    + " is longer than the largest X position");
+        }
+
+        writeRow(writer, "PLATFORM", PLATFORM_X, PLATFORM_Y);
+        writeRow(writer, "PLAYER", PLAYER_X, PLAYER_Y);
+        if (totalWeight > 0) {
+            for (long i = 0; i < count; i++) {
+                int x = (int) (FIRST_X + (i + random.nextDouble()) * slot);
+                int type = pickType();
+                int[] heights = HEIGHTS[type];
+                writeRow(writer, TAGS[type], x, heights[random.nextInt(heights.length)]);
+            }
+        }
+
+        /**
+         * The enemy boss guards the end flag in the level it appears in.
+         */
+        if (level >= BOSS_LEVEL) {
+            writeRow(writer, "ENEMY_BOSS", (int) endX - ENEMY_BOSS_DISTANCE, ENEMY_BOSS_Y);
+        }
+        writeRow(writer, "END_FLAG", (int) endX, END_FLAG_Y);
+    }
+
+    /**
+     * Helper function to pick the type of the next object, in proportion to the weights.
+     * @return int index into TAGS.
+     */
+    private int pickType() {
+        int pick = random.nextInt(totalWeight);
+        int type = 0;
+        while (pick >= weights[type]) {
+            pick -= weights[type];
+            type++;
+        }
+        return type;
+    }
+
+    /**
+     * Helper function to write a single CSV row.
+     * @param writer: Writer to write to.
+     * @param tag: String of object type.
+     * @param x: int value of X position.
+     * @param y: int value of Y position.
+     * @throws IOException if the row can not be written.
+     */
+    private static void writeRow(Writer writer, String tag, int x, int y) throws IOException {
+        writer.write(tag);
+        writer.write(',');
+        writer.write(Integer.toString(x));
+        writer.write(',');
+        writer.write(Integer.toString(y));
+        writer.write('\n');
+    }
+
+    /**
+     * Entry point to generate a level file.
+     * @param args: path of the CSV file to write, number of objects (default 10000), density in objects per 1000
+     *            pixels (default 40), game level (default 2) and seed (default a new random seed, which is printed).
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: LevelGenerator <file> [count] [density] [level] [seed]");
+            System.exit(1);
+        }
+        String file = args[0];
+        long count = args.length > 1 ? Long.parseLong(args[1]) : 10_000L;
+        double density = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_DENSITY;
+        int level = args.length > 3 ? Integer.parseInt(args[3]) : 2;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : LevelRandom.newSeed();
+        System.out.println("Random seed: " + seed);
+
+        long startTime = System.nanoTime();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.US_ASCII), 1 << 16)) {
+            new LevelGenerator(seed, level, density).write(writer, count);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("Generated %d objects for level %d in %s in %.3f s%n", count, level, file, seconds);
+    }
+}
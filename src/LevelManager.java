@@ -1,229 +1,478 @@
-import bagel.Input;
-import bagel.Window;
-
-import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-import java.util.Properties;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * A class to handle level intialising and customising specific level behaviours including constructing and updating
  * game objects due to the difference in game objects in each level.
  */
 public class LevelManager {
-    private final Properties gameProps;
-    private final double ROUND = 100.0;
+    private final GameConfig config;
+    private final int windowHeight;
+    private static final double GRID_CELL_SIZE = 128;
+
+    /**
+     * Order in which the player's collisions with each object type are handled in a state update, lowest first.
+     * Objects are registered in the collision grid with the id of their EntityType.
+     */
+    public static final int NO_COLLISION = -1, ENEMY = 0, COIN = 1, POWER = 2;
+    private SpatialHash collisionGrid;
+    private Camera camera;
+    private CullingIndex[] cullingIndexes;
+    private EntityType<?>[] collidableTypes; // sorted by collision order
+    private final RenderQueue renderQueue = new RenderQueue();
+    private final FrameProfiler profiler;
+
+    /**
+     * Pool to update large tables and test many collision candidates in parallel, null for a sequential update.
+     */
+    private final ForkJoinPool pool;
+    private final int parallelMinRows;
+    private boolean[] hits = new boolean[16]; // narrow phase result of each collision candidate
     private int currentLevel;
+    private LevelRandom random;
     private boolean gameWon;
     private Player player;
     private Platform platform;
     private EnemyBoss enemyBoss;
     private EndFlag endFlag;
-    private FlyingPlatform[] flyingPlatforms;
-    private Enemy[] enemies;
-    private Power[] invinciblePowers;
-    private Power[] doubleScores;
-    private Coin[] coins;
+
+    /**
+     * Tables of the objects with multiple instances indexed by EntityType id, null for single instance types.
+     * The tables whose objects need type specific handling are also kept in their own fields.
+     */
+    private EntityStore<?>[] stores;
+    private EntityStore<FlyingPlatform> flyingPlatforms;
+    private EntityStore<Power> invinciblePowers;
+    private EntityStore<Power> doubleScores;
+    private EntityStore<Coin> coins;
+
+    /**
+     * Chunks of a streamed level, null when the whole level is loaded at once.
+     */
+    private LevelStream stream;
+    private Map<Integer, LevelChunk> residentChunks;
+    private Map<Integer, Future<LevelChunk>> pendingChunks;
+    private int firstChunk, lastChunk;
 
     /**
      * Constructor for LevelManager.
-     * @param gameProps: takes in Properties object to pass onto object constructors.
+     * @param config: takes in GameConfig object to pass onto object constructors.
+     */
+    public LevelManager(GameConfig config) {
+        this(config, new FrameProfiler());
+    }
+
+    /**
+     * Constructor for LevelManager, recording the duration of each phase of a state update.
+     * @param config: takes in GameConfig object to pass onto object constructors.
+     * @param profiler: FrameProfiler to record the phases of the state updates in.
      */
-    public LevelManager(Properties gameProps) {
-        this.gameProps = gameProps;
+    public LevelManager(GameConfig config, FrameProfiler profiler) {
+        this.config = config;
+        this.profiler = profiler;
         this.gameWon = false;
+        this.windowHeight = config.getWindowHeight();
+        this.pool = config.isParallelTick() ? ForkJoinPool.commonPool() : null;
+        this.parallelMinRows = config.getParallelMinRows();
     }
 
     /**
+     * Loads a whole level at once.
      * @param level: game level selected.
      * @param objectPositions: CSVData object passing initial positions of objects.
      */
     public void loadLevel(int level, CSVData objectPositions) {
+        loadLevel(level, objectPositions, new LevelChunk(config, level, 0, objectPositions));
+    }
+
+    /**
+     * Loads a whole level at once, with the objects with multiple instances already constructed.
+     * @param level: game level selected.
+     * @param objectPositions: CSVData object passing initial positions of objects.
+     * @param chunk: LevelChunk of objects constructed from the same positions, e.g. by the LevelPreloader.
+     */
+    public void loadLevel(int level, CSVData objectPositions, LevelChunk chunk) {
+        loadSingletons(level, objectPositions);
+        startLevel(objectPositions, chunk.size());
+        addChunk(chunk);
+    }
+
+    /**
+     * Loads a level that is streamed in chunks around the camera.
+     * The chunks in range are loaded before returning, later chunks are prefetched in the background during updates.
+     * @param level: game level selected.
+     * @param levelStream: LevelStream object of the indexed level file.
+     */
+    public void loadLevel(int level, LevelStream levelStream) {
+        loadSingletons(level, levelStream.getSingletons());
+        int residentCount = config.getChunksBehind() + config.getChunksAhead()
+                + config.getWindowWidth() / config.getChunkWidth() + 2;
+        startLevel(levelStream.getSingletons(), levelStream.estimateObjects(residentCount));
+
+        stream = levelStream;
+        residentChunks = new HashMap<>();
+        pendingChunks = new HashMap<>();
+        firstChunk = 0;
+        lastChunk = -1;
+        streamChunks();
+    }
+
+    /**
+     * Helper function to construct the camera and the objects with a single instance, apart from the enemy boss.
+     * @param level: game level selected.
+     * @param objectPositions: CSVData object passing initial positions of objects.
+     */
+    private void loadSingletons(int level, CSVData objectPositions) {
         this.currentLevel = level;
+        this.random = new LevelRandom(config.getRandomSeed(), level);
+
+        /**
+         * The level scrolls at the speed of its main platform.
+         */
+        this.camera = new Camera(config.getObject("platform").getSpeed());
 
         /**
          * Initialize objects based on CSV data
          */
-        this.player = new Player(gameProps, objectPositions.getPlayer());
-        this.platform = new Platform(gameProps, "platform", objectPositions.getPlatform());
-        this.endFlag = new EndFlag(gameProps, objectPositions.getEndFlag());
+        this.player = EntityRegistry.PLAYER.create(config, objectPositions.getPlayer(),
+                singletonRandom(EntityRegistry.PLAYER));
+        this.platform = EntityRegistry.PLATFORM.create(config, objectPositions.getPlatform(),
+                singletonRandom(EntityRegistry.PLATFORM));
+        this.endFlag = EntityRegistry.END_FLAG.create(config, objectPositions.getEndFlag(),
+                singletonRandom(EntityRegistry.END_FLAG));
+    }
 
-        this.enemies = initializeObjects(gameProps, "enemy", objectPositions.getEnemies(), Enemy.class);
-        this.coins = initializeObjects(gameProps, "coin", objectPositions.getCoins(), Coin.class);
+    /**
+     * Helper function to create the random stream of an object with a single instance.
+     * @param type: EntityType of the object.
+     * @return SplittableRandom stream of the object.
+     */
+    private SplittableRandom singletonRandom(EntityType<?> type) {
+        return random.forEntity(LevelRandom.entityId(type, 0, 0));
+    }
 
-        if (level > 1) {
+    /**
+     * Helper function to construct the enemy boss and the empty tables, collision grid and culling indexes that the
+     * objects with multiple instances are added to.
+     * @param objectPositions: CSVData object passing initial positions of objects.
+     * @param expectedObjects: number of objects with multiple instances expected to be loaded at once.
+     */
+    private void startLevel(CSVData objectPositions, int expectedObjects) {
+        if (currentLevel == 3) {
             /**
-             * Level 2 and 3 contains flying platforms, invincible powers, and double score powers.
+             * Enemy boss constructed, only present in level 3.
              */
-            flyingPlatforms = initializeObjects(gameProps, "flyingPlatform", objectPositions.getFlyingPlatforms(), FlyingPlatform.class);
-            invinciblePowers = initializeObjects(gameProps, "invinciblePower", objectPositions.getInvinciblePower(), Power.class);
-            doubleScores = initializeObjects(gameProps, "doubleScore", objectPositions.getDoubleScore(), Power.class);
+            this.enemyBoss = EntityRegistry.ENEMY_BOSS.create(config, objectPositions.getEnemyBoss(),
+                    singletonRandom(EntityRegistry.ENEMY_BOSS));
+        }
+
+        /**
+         * Objects that can die are updated through tables of the live objects only.
+         * All objects the player can collide with are registered in the collision grid.
+         * Objects with multiple instances are indexed by X position for culling.
+         */
+        collisionGrid = new SpatialHash(GRID_CELL_SIZE, expectedObjects);
+        int width = config.getWindowWidth();
+        stores = new EntityStore<?>[EntityRegistry.size()];
+        cullingIndexes = new CullingIndex[EntityRegistry.size()];
+        for (int i = 0; i < stores.length; i++) {
+            EntityType<?> type = EntityRegistry.get(i);
+            if (!type.isSingleInstance()) {
+                stores[i] = new EntityStore<>(16);
+                cullingIndexes[i] = new CullingIndex(null, width, windowHeight);
+            }
+        }
+        collidableTypes = collidableTypes();
+        coins = getStore(EntityRegistry.COIN);
+        flyingPlatforms = getStore(EntityRegistry.FLYING_PLATFORM);
+        invinciblePowers = getStore(EntityRegistry.INVINCIBLE_POWER);
+        doubleScores = getStore(EntityRegistry.DOUBLE_SCORE);
+    }
+
+    /**
+     * Helper function to list the registered types of objects with multiple instances that the player collides with.
+     * @return array of EntityTypes sorted by collision order, types of equal order in order of registration.
+     */
+    private static EntityType<?>[] collidableTypes() {
+        List<EntityType<?>> types = new ArrayList<>();
+        for (int i = 0; i < EntityRegistry.size(); i++) {
+            EntityType<?> type = EntityRegistry.get(i);
+            if (!type.isSingleInstance() && type.isCollidable()) {
+                types.add(type);
+            }
         }
+        types.sort(Comparator.comparingInt(EntityType::getCollisionOrder));
+        return types.toArray(new EntityType<?>[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends GameObject> EntityStore<T> getStore(EntityType<T> type) {
+        return (EntityStore<T>) stores[type.getId()];
+    }
 
-        if (level == 3) {
+    /**
+     * Adds the objects of a chunk to the level's tables, collision grid and culling indexes.
+     * @param chunk: LevelChunk of constructed objects.
+     */
+    @SuppressWarnings("unchecked")
+    private void addChunk(LevelChunk chunk) {
+        for (int i = 0; i < stores.length; i++) {
+            if (stores[i] == null) {
+                continue;
+            }
+            EntityType<?> type = EntityRegistry.get(i);
+            GameObject[] objects = chunk.getObjects(i);
             /**
-             * Enemy boss constructed, only present in level 3.
+             * The chunk's rows move into the level's table before the objects are registered in the grid.
              */
-            this.enemyBoss = new EnemyBoss(gameProps, objectPositions.getEnemyBoss());
+            ((EntityStore<GameObject>) stores[i]).addAll((EntityStore<GameObject>) chunk.getStore(i));
+            if (type.isCollidable()) {
+                addToGrid(objects, type.getId());
+            }
+            cullingIndexes[i].add(objects);
         }
     }
 
-    private <T> T[] initializeObjects(Properties props, String objectType, int[][] objectPos, Class<T> clazz) {
-        T[] array = (T[]) Array.newInstance(clazz, objectPos.length);
-        for (int i = 0; i < objectPos.length; i++) {
-            if (objectPos[i] != null) {
-                try {
-                    array[i] = clazz.getDeclaredConstructor(Properties.class, String.class, int[].class)
-                            .newInstance(props, objectType, objectPos[i]);
-                } catch (NoSuchMethodException e) {
-                    /**
-                     * Handles exception where constructor is not found.
-                     */
-                    System.err.println("Constructor with specified parameters not found in " + clazz.getName());
-                } catch (IllegalAccessException e) {
-                    /**
-                     * Handles illegal access to constructor.
-                     */
-                    System.err.println("Cannot access the constructor of " + clazz.getName());
-                } catch (InstantiationException e) {
-                    /**
-                     * Handles error in instantiating object.
-                     */
-                    System.err.println("Cannot instantiate " + clazz.getName() + "; ensure it is not abstract and has a visible constructor");
-                } catch (InvocationTargetException e) {
-                    /**
-                     * Handles invoked method or constructor.
-                     */
-                    System.err.println("Constructor threw an exception for " + clazz.getName() + ": " + e.getCause());
-                }
+    /**
+     * Helper function to insert objects with multiple instances into the collision grid.
+     * @param objects: array of GameObjects.
+     * @param typeId: int id of the objects' EntityType, which the grid returns with these objects.
+     */
+    private void addToGrid(GameObject[] objects, int typeId) {
+        for (GameObject obj : objects) {
+            if (obj != null) {
+                collisionGrid.insert(obj, typeId);
             }
         }
-        return array;
     }
 
     /**
-     * Method to call the move method on all game objects according to the current game level.
-     * @param input: player keyboard input.
+     * Adds the chunks of a streamed level that came into range of the camera and unloads the chunks out of range.
+     * A chunk joins on the update its range is entered, decided by the camera position alone. If it has not been
+     * prefetched by then, the update waits for it, so the background thread's timing never changes the game.
+     * @return boolean value if any chunk was unloaded.
      */
-    public void moveObjects(Input input) {
-        player.move(input, flyingPlatforms, enemyBoss);
-        platform.move(input);
-        endFlag.move(input);
-        moveGameObjects(enemies, input);
-        moveGameObjects(coins, input);
-
-        if (currentLevel != 1){
-            moveGameObjects(flyingPlatforms, input);
-            moveGameObjects(invinciblePowers, input);
-            moveGameObjects(doubleScores, input);
+    private boolean streamChunks() {
+        int first = stream.chunkOf(camera.getOffsetX()) - config.getChunksBehind();
+        int last = stream.chunkOf(camera.getOffsetX() + config.getWindowWidth()) + config.getChunksAhead();
+        if (first == firstChunk && last == lastChunk) {
+            return false;
+        }
+        firstChunk = first;
+        lastChunk = last;
+
+        boolean evicted = false;
+        Iterator<LevelChunk> it = residentChunks.values().iterator();
+        while (it.hasNext()) {
+            LevelChunk resident = it.next();
+            if (resident.getIndex() < first || resident.getIndex() > last) {
+                stream.unload(resident);
+                it.remove();
+                evicted = true;
+            }
+        }
 
-            if (currentLevel == 3){
-                enemyBoss.move(input, player);
+        for (int i = Math.max(first, 0); i <= Math.min(last, stream.getChunkCount() - 1); i++) {
+            if (!residentChunks.containsKey(i)) {
+                LevelChunk chunk = takeChunk(i);
+                if (chunk != null) {
+                    residentChunks.put(i, chunk);
+                    addChunk(chunk);
+                }
             }
         }
 
+        /**
+         * Chunks just outside the range are prefetched, after unloading so they are built without used up objects.
+         */
+        int prefetched = config.getChunksPrefetched();
+        Iterator<Map.Entry<Integer, Future<LevelChunk>>> pending = pendingChunks.entrySet().iterator();
+        while (pending.hasNext()) {
+            Map.Entry<Integer, Future<LevelChunk>> entry = pending.next();
+            if (entry.getKey() < first - prefetched || entry.getKey() > last + prefetched) {
+                entry.getValue().cancel(false);
+                pending.remove();
+            }
+        }
+        for (int i = Math.max(first - prefetched, 0);
+                i <= Math.min(last + prefetched, stream.getChunkCount() - 1); i++) {
+            if (!residentChunks.containsKey(i) && !pendingChunks.containsKey(i)) {
+                pendingChunks.put(i, stream.request(i));
+            }
+        }
+        return evicted;
     }
 
     /**
-     * Helper function to move game objects with multiple instances.
-     * @param objects: array of GameObjects.
-     * @param input: user's keyboard input.
+     * Helper function to take a chunk that joins the level, waiting for it if it was prefetched, and loading it on
+     * the calling thread otherwise.
+     * @param index: int index of the chunk.
+     * @return LevelChunk of the built objects, or null if the chunk can not be read.
      */
-    private void moveGameObjects(GameObject[] objects, Input input) {
-        for (GameObject obj : objects) {
-            if (obj != null) {
-                obj.move(input);
+    private LevelChunk takeChunk(int index) {
+        Future<LevelChunk> future = pendingChunks.remove(index);
+        if (future != null) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                e.getCause().printStackTrace();
+                return null;
             }
         }
+        try {
+            return stream.loadChunk(index);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
     }
 
+    /**
+     * Performs a single state update of the level: checks for collisions, checks if the enemy boss is activated, and
+     * moves all game objects. Used by both the windowed game and the headless simulation.
+     * Each phase is timed in the FrameProfiler, which also measures the memory allocated by the whole update.
+     * @param input: player keyboard input.
+     */
+    public void update(GameInput input) {
+        long time = profiler.startTick();
+        if (stream != null) {
+            if (streamChunks()) {
+                compactCullingIndexes();
+            }
+            time = profiler.record(FrameProfiler.STREAMING, time);
+        }
+        checkCollisions();
+        time = profiler.record(FrameProfiler.COLLISIONS, time);
+        player.checkBossActivated(enemyBoss);
+        time = profiler.record(FrameProfiler.BOSS_ACTIVATION, time);
+        moveObjects(input);
+        profiler.record(FrameProfiler.MOVE_OBJECTS, time);
+        profiler.endTick();
+    }
 
     /**
-     * Method to render all game objects according to selected game level.
+     * Method to call the move method on all game objects according to the current game level.
+     * @param input: player keyboard input.
      */
-    public void renderObjects() {
-        platform.render();
-        endFlag.render();
-        renderGameObjects(enemies);
-        renderGameObjects(coins);
-
-        if (currentLevel != 1){
-            renderGameObjects(flyingPlatforms);
-            renderGameObjects(invinciblePowers);
-            renderGameObjects(doubleScores);
-
-            if (currentLevel == 3){
-                enemyBoss.render();
-                for (Fireball fireball : enemyBoss.getFireballs()) {
-                    fireball.render();
-                }
-                for (Fireball fireball : player.getFireballs()) {
-                    fireball.render();
-                }
+    public void moveObjects(GameInput input) {
+        /**
+         * Scrolling only moves the camera, the main platform and end flag never move in the level.
+         */
+        camera.update(input);
+        player.savePosition();
+        player.move(input, camera, flyingPlatforms, enemyBoss);
+
+        /**
+         * Each table updates all of its rows in one pass. Dead objects leave their tables during the update, and
+         * are then dropped from rendering.
+         */
+        boolean died = false;
+        for (EntityStore<?> store : stores) {
+            if (store != null) {
+                died |= pool == null ? store.update() : store.update(pool, parallelMinRows);
             }
         }
-        player.render();
+        if (died) {
+            compactCullingIndexes();
+        }
+
+        if (currentLevel == 3){
+            enemyBoss.savePosition();
+            enemyBoss.move(player, camera);
+        }
 
     }
 
     /**
-     * Helper function to render objects with multiple instances.
-     * @param objects: array of GameObject objects.
+     * Helper function to drop dead objects from rendering.
      */
-    private void renderGameObjects(GameObject[] objects) {
-        for (GameObject obj : objects) {
-            if (obj != null) {
-                obj.render();
+    private void compactCullingIndexes() {
+        for (CullingIndex index : cullingIndexes) {
+            if (index != null) {
+                index.compact();
             }
         }
     }
 
 
     /**
-     * Method to check for collisions in all game objects in every state update.
+     * Method to render all game objects according to selected game level.
+     * @param alpha: double value of how far rendering is between the previous and the latest state update, from 0
+     *             to 1.
      */
-    public void checkCollisions() {
+    public void renderObjects(double alpha) {
+        camera.setInterpolation(alpha);
+        renderQueue.setLayer(RenderQueue.PLATFORMS);
+        platform.render(renderQueue, camera);
+        endFlag.render(renderQueue, camera);
 
-        for (Enemy enemy: enemies) {
-            if (player.checkCollision(enemy)){
-                /**
-                 * If a player doesn't have the invincible power active, inflict damage
-                 */
-                if (!checkPowers(invinciblePowers)) {
-                    double newHealth = player.getHealth() - enemy.getDamageSize();
-                    double roundedHealth = Math.round(newHealth * ROUND) / ROUND;
-                    player.setHealth(roundedHealth);
-                }
-                /**
-                 * Set enemy to zero damage to flag collision
-                 */
-                enemy.zeroDamage();
+        /**
+         * Only draw objects inside the window.
+         * Levels without flying platforms or powers have empty indexes.
+         */
+        renderQueue.setLayer(RenderQueue.OBJECTS);
+        for (CullingIndex index : cullingIndexes) {
+            if (index != null) {
+                index.render(renderQueue, camera);
             }
         }
 
-        for (Coin coin: coins) {
-            if (player.checkCollision(coin)) {
-                /**
-                 * Double the score if any double score power is active.
-                 */
-                if (checkPowers(doubleScores)) {
-                    player.setScore(player.getScore() + (2 * coin.getCoinValue()));
-                } else {
-                    player.setScore(player.getScore() + coin.getCoinValue());
-                }
-                /**
-                 * Set coin value to zero to flag collision/
-                 */
-                coin.zeroValue();
+        if (currentLevel == 3){
+            renderQueue.setLayer(RenderQueue.BOSS);
+            enemyBoss.render(renderQueue, camera);
+            renderQueue.setLayer(RenderQueue.FIREBALLS);
+            for (int i = 0; i < enemyBoss.getFireballs().size(); i++) {
+                Fireball fireball = enemyBoss.getFireballs().get(i);
+                fireball.render(renderQueue, camera);
+            }
+            for (int i = 0; i < player.getFireballs().size(); i++) {
+                Fireball fireball = player.getFireballs().get(i);
+                fireball.render(renderQueue, camera);
             }
         }
+        renderQueue.setLayer(RenderQueue.PLAYER);
+        player.render(renderQueue, camera);
 
         /**
-         * Check for any collision with powers, activate if collided.
+         * Submit all draws, grouped by layer and texture.
          */
-        activatePower(invinciblePowers);
-        activatePower(doubleScores);
+        renderQueue.flush();
+    }
 
+    /**
+     * Method to check for collisions in all game objects in every state update.
+     */
+    public void checkCollisions() {
+
+        /**
+         * Broad phase: only objects in the grid cells around the player are tested for a collision.
+         */
+        int candidates = collisionGrid.query(player.getX(), player.getY(), player.getRadius());
+        testCandidates(candidates);
+
+        /**
+         * Each colliding object is handled by its type, one type at a time in collision order. Enemies are handled
+         * before powers, so a power collected in this update protects the player from the next update on.
+         */
+        for (EntityType<?> type : collidableTypes) {
+            int id = type.getId();
+            for (int i = 0; i < candidates; i++) {
+                if (hits[i] && collisionGrid.getResultCategory(i) == id) {
+                    type.collide(collisionGrid.getResult(i), this);
+                }
+            }
+        }
 
         /**
          * If on level 3, check for fireball collisions.
@@ -232,7 +481,8 @@ public class LevelManager {
             /**
              * Checks for fireballs shot by enemy boss.
              */
-            for (Fireball fireball : enemyBoss.getFireballs()) {
+            for (int i = 0; i < enemyBoss.getFireballs().size(); i++) {
+                Fireball fireball = enemyBoss.getFireballs().get(i);
                 if (player.checkCollision(fireball)){
                     fireball.collide();
                     /**
@@ -248,7 +498,8 @@ public class LevelManager {
             /**
              * Checks for fireballs shot by player.
              */
-            for (Fireball fireball : player.getFireballs()) {
+            for (int i = 0; i < player.getFireballs().size(); i++) {
+                Fireball fireball = player.getFireballs().get(i);
                 if (enemyBoss.checkCollision(fireball)){
                     fireball.collide();
                     double newHealth = enemyBoss.getHealth() - fireball.getDamageSize();
@@ -259,28 +510,49 @@ public class LevelManager {
 
     }
 
-    private boolean checkPowers(Power[] powers){
-        if (powers != null) {
-            for (Power power: powers) {
-                if (power.isActive()) {
-                    return true;
-                }
-            }
+    /**
+     * Narrow phase: tests which candidates of the last grid query collide with the player.
+     * Testing never changes the level, so many candidates can be tested in parallel before any collision is handled.
+     * @param candidates: number of candidates of the last query.
+     */
+    private void testCandidates(int candidates) {
+        if (candidates > hits.length) {
+            hits = new boolean[Math.max(candidates, hits.length * 2)];
+        }
+        if (pool != null && candidates >= parallelMinRows) {
+            pool.invoke(new ParallelNarrowPhase(player, collisionGrid, hits, 0, candidates, parallelMinRows));
+        } else {
+            ParallelNarrowPhase.test(player, collisionGrid, hits, 0, candidates);
         }
-        return false;
     }
 
-    private void activatePower(Power[] powers) {
-        if (powers != null) {
-            for (Power power: powers) {
-                if (player.checkCollision(power)) {
-                    power.activate();
-                }
+    /**
+     * Checks if any invincible power is active.
+     * Used by collision handlers, the player takes no damage while it is.
+     * @return boolean value
+     */
+    public boolean isInvincible() {
+        return checkPowers(invinciblePowers);
+    }
+
+    /**
+     * Checks if any double score power is active.
+     * Used by collision handlers, coins are worth double while it is.
+     * @return boolean value
+     */
+    public boolean isDoubleScore() {
+        return checkPowers(doubleScores);
+    }
+
+    private boolean checkPowers(EntityStore<Power> powers){
+        for (int i = 0; i < powers.size(); i++) {
+            if (powers.get(i).isActive()) {
+                return true;
             }
         }
+        return false;
     }
 
-
     /**
      * Checks win and lose conditions.
      * Wins if player collides with end flag.
@@ -290,7 +562,7 @@ public class LevelManager {
      */
     public boolean checkWinLose() {
         if (player.getHealth() <= 0) {
-            if (player.getPosition().y >= Window.getHeight()) { // Waits until player is out of the window
+            if (player.getY() >= windowHeight) { // Waits until player is out of the window
                 gameWon = false;
                 return true;
             }
@@ -321,15 +593,25 @@ public class LevelManager {
         gameWon = false;
 
         this.enemyBoss = null;
+        this.collisionGrid = null;
+        this.camera = null;
+        this.cullingIndexes = null;
+        this.collidableTypes = null;
 
-        if (currentLevel != 1) {
-            Arrays.fill(flyingPlatforms, null);
-            Arrays.fill(invinciblePowers, null);
-            Arrays.fill(doubleScores, null);
-            flyingPlatforms = null;
-            invinciblePowers = null;
-            doubleScores = null;
+        this.stores = null;
+        this.coins = null;
+        this.flyingPlatforms = null;
+        this.invinciblePowers = null;
+        this.doubleScores = null;
 
+        /**
+         * Stop loading chunks of a streamed level.
+         */
+        if (stream != null) {
+            stream.close();
+            stream = null;
+            residentChunks = null;
+            pendingChunks = null;
         }
     }
 
@@ -349,6 +631,42 @@ public class LevelManager {
         return player;
     }
 
+    /**
+     * Getter for RenderQueue object
+     * @return RenderQueue used to draw the level, giving access to draw statistics
+     */
+    public RenderQueue getRenderQueue() {
+        return renderQueue;
+    }
+
+    /**
+     * Getter for Camera object
+     * @return Camera object of the current level's view
+     */
+    public Camera getCamera() {
+        return camera;
+    }
+
+    /**
+     * Getter for FrameProfiler object
+     * @return FrameProfiler the state updates are timed in
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Getter for number of objects of a type with multiple instances that are currently in the level
+     * @param type: EntityType of object type
+     * @return int number of objects, zero for single instance types or when no level is loaded
+     */
+    public int getObjectCount(EntityType<?> type) {
+        if (stores == null || stores[type.getId()] == null) {
+            return 0;
+        }
+        return stores[type.getId()].size();
+    }
+
     /**
      * Getter for EnemyBoss object
      * @return EnemyBoss object to give access to EnemyBoss attributes
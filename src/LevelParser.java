@@ -0,0 +1,331 @@
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A single pass parser for CSV level files.
+ * Characters are read straight from a buffer and integers are parsed in place, appending positions into growable
+ * int arrays per object type, so no String or per-row array is created while parsing. Rows of unknown object types
+ * are ignored and columns after the Y position are ignored. Invalid or missing positions are reported with their
+ * line and column and default to zero. Errors can be deferred, so that parsers of consecutive parts of a file can
+ * run in parallel and be appended in file order before reporting.
+ */
+public class LevelParser {
+    private static final int TYPE_COUNT = EntityRegistry.size();
+    private static final char[][] TAG_NAMES = new char[TYPE_COUNT][];
+    private static final int MAX_TAG_LENGTH = 32;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    static {
+        for (int i = 0; i < TYPE_COUNT; i++) {
+            TAG_NAMES[i] = EntityRegistry.get(i).getTag().toCharArray();
+        }
+    }
+
+    private final String source;
+    private final int[][] xs = new int[TYPE_COUNT][16];
+    private final int[][] ys = new int[TYPE_COUNT][16];
+    private final int[] counts = new int[TYPE_COUNT];
+    private final boolean deferErrors;
+    private int errors;
+    private long[] errorLines = new long[0];
+    private int[] errorColumns = new int[0];
+    private String[] errorMessages = new String[0];
+    private long linesRead; // number of line terminators read
+
+    /**
+     * State of the row being parsed.
+     */
+    private final char[] tagChars = new char[MAX_TAG_LENGTH];
+    private int tagLength;
+    private int tag; // EntityType id of the row, or -1 for unknown types
+    private int field;
+    private long value;
+    private boolean negative, hasDigits, invalid;
+    private int valueColumn;
+    private int x, y;
+    private long line;
+    private int column;
+
+    /**
+     * Constructor for LevelParser object.
+     * @param source: String name of what is parsed, e.g. the file path, used in error messages.
+     */
+    public LevelParser(String source) {
+        this(source, false);
+    }
+
+    /**
+     * Constructor for LevelParser object.
+     * @param source: String name of what is parsed, e.g. the file path, used in error messages.
+     * @param deferErrors: boolean value, true to keep errors until reportErrors() instead of printing them.
+     */
+    public LevelParser(String source, boolean deferErrors) {
+        this.source = source;
+        this.deferErrors = deferErrors;
+    }
+
+    /**
+     * Parses rows from a reader until its end, adding to the rows already parsed.
+     * @param reader: Reader of CSV rows.
+     * @param firstLine: line number of the first row read, used in error messages.
+     * @return this parser, for convenience.
+     * @throws IOException if the rows can not be read.
+     */
+    public LevelParser parse(Reader reader, long firstLine) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        start(firstLine);
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                next(buffer[i]);
+            }
+        }
+        finish();
+        return this;
+    }
+
+    /**
+     * Parses rows of ASCII bytes from the position to the limit of a buffer, adding to the rows already parsed.
+     * @param bytes: ByteBuffer of CSV rows, e.g. a memory mapped part of a file.
+     * @param firstLine: line number of the first row read, used in error messages.
+     * @return this parser, for convenience.
+     */
+    public LevelParser parse(ByteBuffer bytes, long firstLine) {
+        start(firstLine);
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+            next((char) (bytes.get(i) & 0xff));
+        }
+        finish();
+        return this;
+    }
+
+    /**
+     * Appends the rows parsed by a parser of the part of the file right after this parser's part.
+     * Deferred errors of the other parser are moved to line numbers following this parser's part.
+     * @param next: LevelParser of the following part.
+     * @return this parser, for convenience.
+     */
+    public LevelParser append(LevelParser next) {
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            int count = counts[t] + next.counts[t];
+            if (count > xs[t].length) {
+                xs[t] = Arrays.copyOf(xs[t], count);
+                ys[t] = Arrays.copyOf(ys[t], count);
+            }
+            System.arraycopy(next.xs[t], 0, xs[t], counts[t], next.counts[t]);
+            System.arraycopy(next.ys[t], 0, ys[t], counts[t], next.counts[t]);
+            counts[t] = count;
+        }
+        for (int i = 0; i < next.errors; i++) {
+            addError(linesRead + next.errorLines[i], next.errorColumns[i], next.errorMessages[i]);
+        }
+        linesRead += next.linesRead;
+        return this;
+    }
+
+    /**
+     * Prints the deferred errors.
+     * @param firstLine: line number of the first row of the parsed part, added to the line of every error.
+     */
+    public void reportErrors(long firstLine) {
+        for (int i = 0; i < errors; i++) {
+            System.err.println(source + ":" + (firstLine + errorLines[i]) + ":" + errorColumns[i] + ": "
+                    + errorMessages[i]);
+        }
+    }
+
+    /**
+     * Converts the parsed rows into a CSVData object.
+     * @return CSVData of object positions.
+     */
+    public CSVData toCSVData() {
+        int[][][] positions = new int[TYPE_COUNT][][];
+        for (int t = 0; t < TYPE_COUNT; t++) {
+            positions[t] = new int[counts[t]][];
+            for (int i = 0; i < counts[t]; i++) {
+                positions[t][i] = new int[] {xs[t][i], ys[t][i]};
+            }
+        }
+        return new CSVData(positions);
+    }
+
+    /**
+     * Getter for the number of rows parsed of an object type.
+     * @param type: EntityType of object type.
+     * @return int value of count.
+     */
+    public int getCount(EntityType<?> type) {
+        return counts[type.getId()];
+    }
+
+    /**
+     * Getters for the X and Y positions parsed of an object type, valid up to getCount(type).
+     * @param type: EntityType of object type.
+     * @return int array of positions, possibly longer than the count.
+     */
+    public int[] getXs(EntityType<?> type) {
+        return xs[type.getId()];
+    }
+    public int[] getYs(EntityType<?> type) {
+        return ys[type.getId()];
+    }
+
+    /**
+     * Getter for the number of invalid or missing positions reported.
+     * @return int value of error count.
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    private void start(long firstLine) {
+        line = firstLine;
+        column = 0;
+        startRow();
+    }
+
+    /**
+     * Handles a single character of the input.
+     */
+    private void next(char c) {
+        column++;
+        if (c == '\n') {
+            endField();
+            endRow();
+            line++;
+            linesRead++;
+            column = 0;
+            startRow();
+        } else if (c == ',') {
+            endField();
+            field++;
+            startField();
+        } else if (c != '\r') {
+            addChar(c);
+        }
+    }
+
+    private void finish() {
+        /**
+         * The last row may not end with a line terminator.
+         */
+        if (column > 0) {
+            endField();
+            endRow();
+        }
+    }
+
+    private void startRow() {
+        tagLength = 0;
+        tag = -1;
+        field = 0;
+        x = 0;
+        y = 0;
+    }
+
+    private void startField() {
+        value = 0;
+        negative = false;
+        hasDigits = false;
+        invalid = false;
+        valueColumn = column + 1;
+    }
+
+    private void addChar(char c) {
+        if (field == 0) {
+            if (tagLength < MAX_TAG_LENGTH) {
+                tagChars[tagLength] = c;
+            }
+            tagLength++;
+        } else if (field <= 2 && !invalid) {
+            /**
+             * Parse the X or Y position in place.
+             */
+            if (c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                hasDigits = true;
+                if (value > (long) Integer.MAX_VALUE + 1) {
+                    invalid = true;
+                }
+            } else if ((c == '-' || c == '+') && !hasDigits && !negative && column == valueColumn) {
+                negative = c == '-';
+            } else {
+                invalid = true;
+            }
+        }
+    }
+
+    private void endField() {
+        if (field == 0) {
+            tag = matchTag();
+        } else if (field <= 2 && tag >= 0) {
+            long parsed = negative ? -value : value;
+            if (invalid || !hasDigits || parsed > Integer.MAX_VALUE) {
+                error(valueColumn, "Error converting to integer");
+                parsed = 0; // Defaulting to zero, as CSVData does
+            }
+            if (field == 1) {
+                x = (int) parsed;
+            } else {
+                y = (int) parsed;
+            }
+        }
+    }
+
+    private void endRow() {
+        if (tag < 0) {
+            return;
+        }
+        if (field < 2) {
+            error(column, "Missing " + (field < 1 ? "X and Y positions" : "Y position"));
+        }
+        int t = tag;
+        if (counts[t] == xs[t].length) {
+            xs[t] = Arrays.copyOf(xs[t], counts[t] * 2);
+            ys[t] = Arrays.copyOf(ys[t], counts[t] * 2);
+        }
+        xs[t][counts[t]] = x;
+        ys[t][counts[t]] = y;
+        counts[t]++;
+    }
+
+    private int matchTag() {
+        for (int i = 0; i < TAG_NAMES.length; i++) {
+            char[] name = TAG_NAMES[i];
+            if (name.length == tagLength) {
+                int j = 0;
+                while (j < tagLength && tagChars[j] == name[j]) {
+                    j++;
+                }
+                if (j == tagLength) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void error(int errorColumn, String message) {
+        if (deferErrors) {
+            addError(line, errorColumn, message);
+        } else {
+            errors++;
+            System.err.println(source + ":" + line + ":" + errorColumn + ": " + message);
+        }
+    }
+
+    private void addError(long errorLine, int errorColumn, String message) {
+        if (errors == errorLines.length) {
+            int capacity = Math.max(4, errors * 2);
+            errorLines = Arrays.copyOf(errorLines, capacity);
+            errorColumns = Arrays.copyOf(errorColumns, capacity);
+            errorMessages = Arrays.copyOf(errorMessages, capacity);
+        }
+        errorLines[errors] = errorLine;
+        errorColumns[errors] = errorColumn;
+        errorMessages[errors] = message;
+        errors++;
+    }
+}
@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A class to prepare every configured level in the background while the start screen is shown.
+ * Reading level files, constructing objects and reading image dimensions run on background threads. Only creating
+ * images needs the graphics context, which is done a few images per start screen frame. Starting a level then only
+ * has to add the prepared objects to the LevelManager. A level is prepared again in the background once it has been
+ * taken, so restarting it is just as quick.
+ */
+public class LevelPreloader {
+    private static final int IMAGES_PER_FRAME = 1;
+    private final GameConfig config;
+    private final ExecutorService loader;
+    private final Future<PreparedLevel>[] levels;
+    private final Queue<Sprite> unloadedSprites = new ArrayDeque<>();
+
+    /**
+     * Constructor for LevelPreloader object, starts preparing all levels.
+     * @param config: GameConfig object of the configured levels.
+     */
+    @SuppressWarnings("unchecked")
+    public LevelPreloader(GameConfig config) {
+        this.config = config;
+        int threads = Math.max(1, Math.min(config.getLevelCount(), Runtime.getRuntime().availableProcessors()));
+        loader = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "level-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        /**
+         * Images of every object type are loaded during the start screen, their dimensions are read in the background.
+         */
+        for (ObjectConfig objectConfig : config.getObjects()) {
+            addSprite(objectConfig.getImage());
+            addSprite(objectConfig.getImageLeft());
+        }
+        Sprite[] sprites = unloadedSprites.toArray(new Sprite[0]);
+        loader.execute(() -> {
+            for (Sprite sprite : sprites) {
+                sprite.getWidth();
+            }
+        });
+
+        levels = (Future<PreparedLevel>[]) new Future<?>[config.getLevelCount() + 1];
+        for (int level = 1; level <= config.getLevelCount(); level++) {
+            prepare(level);
+        }
+    }
+
+    private void addSprite(String imagePath) {
+        if (imagePath != null) {
+            unloadedSprites.add(AssetCache.getSprite(imagePath));
+        }
+    }
+
+    /**
+     * Loads images that have not been loaded yet, a few per call.
+     * Called every start screen frame on the thread that owns the graphics context.
+     */
+    public void loadImages() {
+        for (int i = 0; i < IMAGES_PER_FRAME && !unloadedSprites.isEmpty(); i++) {
+            unloadedSprites.poll().load();
+        }
+    }
+
+    /**
+     * Takes a prepared level, waiting for it if it is still being prepared, and starts preparing it again.
+     * A level that failed to prepare in the background is not prepared again on the calling thread, its failure is
+     * reported instead.
+     * @param level: game level to take.
+     * @return PreparedLevel object, ready to be loaded.
+     * @throws IOException if the level file can not be read, or the level could not be prepared.
+     */
+    public PreparedLevel take(int level) throws IOException {
+        if (level < 1 || level > config.getLevelCount()) {
+            throw new IllegalArgumentException("No file configured for level " + level);
+        }
+        Future<PreparedLevel> future = levels[level];
+        prepare(level);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while preparing level " + level);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException("Level " + level + " could not be prepared", cause);
+        }
+    }
+
+    private void prepare(int level) {
+        levels[level] = loader.submit(() -> PreparedLevel.prepare(config, level));
+    }
+}
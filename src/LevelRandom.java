@@ -0,0 +1,66 @@
+import java.util.SplittableRandom;
+
+/**
+ * A source of random streams for a level, derived from the session's random seed.
+ * Every entity gets its own SplittableRandom seeded from the level seed and the entity's id with the SplitMix64
+ * mixing function. Entities never share random state, so they can be constructed and updated on any thread, and
+ * identical seeds give identical runs whatever order the entities are constructed in.
+ */
+public class LevelRandom {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private final long seed;
+
+    /**
+     * Constructor for LevelRandom object.
+     * @param sessionSeed: long value of the random seed of the session.
+     * @param level: game level, each level has a seed of its own.
+     */
+    public LevelRandom(long sessionSeed, int level) {
+        this.seed = mix(sessionSeed + GOLDEN_GAMMA * level);
+    }
+
+    /**
+     * Creates the random stream of an entity.
+     * @param entityId: long id of the entity, see entityId().
+     * @return SplittableRandom used only by that entity.
+     */
+    public SplittableRandom forEntity(long entityId) {
+        return new SplittableRandom(mix(seed + GOLDEN_GAMMA * mix(entityId)));
+    }
+
+    /**
+     * Getter for the id of an entity, stable across runs of the same level file.
+     * @param type: EntityType of the entity.
+     * @param chunk: int index of the level chunk the entity belongs to, 0 for levels that are not streamed.
+     * @param row: int index of the entity among the objects of its type in the chunk.
+     * @return long value of id.
+     */
+    public static long entityId(EntityType<?> type, int chunk, int row) {
+        return ((long) type.getId() << 56) | ((long) chunk << 28) | row;
+    }
+
+    /**
+     * Creates a seed for a session that does not have a fixed one.
+     * @return long value of seed.
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Getter for the seed of the level.
+     * @return long value of seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * The SplitMix64 finalizer, mixing all bits of the input into every bit of the output.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
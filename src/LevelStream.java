@@ -0,0 +1,279 @@
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A class to stream a level file that is too large to be read at once.
+ * The level is split into chunks by X position. Opening the stream only indexes the file, recording the objects with
+ * a single instance and the byte offset at which each chunk starts. Chunks are then read and their objects built on
+ * a background thread as the camera approaches them, so memory use depends on the view distance and not on the
+ * level length. The level decides when a loaded chunk joins play, so the background thread's timing never changes
+ * the game.
+ * Rows of objects with multiple instances must be sorted by X position, rows of objects with a single instance can
+ * appear anywhere in the file.
+ * A chunk that is unloaded and later comes back into range is read from the file again, without the objects that
+ * were used up in play, e.g. collected coins, while it was loaded before.
+ */
+public class LevelStream {
+    private static final int MAX_LINE_LENGTH = 256; // bytes, including the line terminator
+    private final GameConfig config;
+    private final int level;
+    private final String csvFile;
+    private final int chunkWidth;
+    private final FileChannel channel;
+    private final long[] chunkOffsets; // chunk i spans bytes chunkOffsets[i] to chunkOffsets[i + 1]
+    private final long[] chunkLines; // line number of the first row of each chunk
+    private final int chunkCount;
+    private final long rowCount;
+    private final CSVData singletons;
+    private final BitSet[][] usedRows; // rows of each chunk used up in play, indexed by chunk and EntityType id
+    private final ExecutorService loader;
+
+    /**
+     * Constructor for LevelStream object, indexes the level file.
+     * @param config: GameConfig object to build the level's objects with.
+     * @param level: game level of the file.
+     * @param csvFile: path to the CSV file.
+     * @throws IOException if the file can not be read, or has a line longer than MAX_LINE_LENGTH bytes.
+     */
+    public LevelStream(GameConfig config, int level, String csvFile) throws IOException {
+        this.config = config;
+        this.level = level;
+        this.chunkWidth = config.getChunkWidth();
+
+        this.csvFile = csvFile;
+        LevelParser singletonParser = new LevelParser(csvFile);
+        long[] offsets = new long[16];
+        long[] lines = new long[16];
+        int lastChunk = -1;
+        long rows = 0;
+        long lineNumber = 0;
+        int lastX = Integer.MIN_VALUE;
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(csvFile))) {
+            byte[] line = new byte[MAX_LINE_LENGTH];
+            long offset = 0;
+            int length;
+            while ((length = readLine(in, line)) >= 0) {
+                long lineStart = offset;
+                offset += length;
+                lineNumber++;
+                if (length > line.length) {
+                    throw new IOException("Line " + lineNumber + " of level file " + csvFile + " is longer than "
+                            + line.length + " bytes");
+                }
+                int end = trimmedLength(line, length);
+                int comma = indexOf(line, end, (byte) ',', 0);
+                if (comma < 0) {
+                    continue;
+                }
+                String tag = new String(line, 0, comma, StandardCharsets.US_ASCII);
+
+                /**
+                 * Objects with a single instance are kept, and passed to the level as soon as it is loaded.
+                 */
+                EntityType<?> type = EntityRegistry.find(tag);
+                if (type != null && type.isSingleInstance()) {
+                    singletonParser.parse(new StringReader(new String(line, 0, end, StandardCharsets.US_ASCII)),
+                            lineNumber);
+                    continue;
+                }
+
+                int x = parseX(line, comma + 1, end);
+                if (x < lastX) {
+                    throw new IllegalArgumentException("Level file " + csvFile + " must be sorted by X position to "
+                            + "be streamed, line " + lineNumber + " is out of order");
+                }
+                lastX = x;
+                rows++;
+
+                /**
+                 * Record the start of every chunk up to the chunk of this row, chunks without rows are empty.
+                 */
+                int chunk = chunkOf(x);
+                while (lastChunk < chunk) {
+                    lastChunk++;
+                    if (lastChunk >= offsets.length) {
+                        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                        lines = Arrays.copyOf(lines, lines.length * 2);
+                    }
+                    offsets[lastChunk] = lineStart;
+                    lines[lastChunk] = lineNumber;
+                }
+            }
+
+            chunkCount = lastChunk + 1;
+            chunkOffsets = Arrays.copyOf(offsets, chunkCount + 1);
+            chunkOffsets[chunkCount] = offset;
+            chunkLines = Arrays.copyOf(lines, chunkCount);
+        }
+        rowCount = rows;
+        usedRows = new BitSet[chunkCount][];
+        singletons = singletonParser.toCSVData();
+        channel = FileChannel.open(Paths.get(csvFile), StandardOpenOption.READ);
+
+        loader = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "level-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Reads a chunk and builds its objects on the calling thread.
+     * @param index: int index of the chunk.
+     * @return LevelChunk of the built objects.
+     * @throws IOException if the chunk can not be read.
+     */
+    public LevelChunk loadChunk(int index) throws IOException {
+        long start = chunkOffsets[index];
+        ByteBuffer bytes = ByteBuffer.allocate((int) (chunkOffsets[index + 1] - start));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, start + bytes.position()) < 0) {
+                break;
+            }
+        }
+        bytes.flip();
+        CSVData rows = IOUtils.readCsv(new InputStreamReader(
+                new ByteArrayInputStream(bytes.array(), 0, bytes.limit()), StandardCharsets.US_ASCII),
+                csvFile, chunkLines[index]);
+        return new LevelChunk(config, level, index, rows, usedRows[index]);
+    }
+
+    /**
+     * Removes a chunk's objects from the level, recording which of them were used up in play so that they are not
+     * built again when the chunk is reloaded.
+     * Must not be called while the chunk is being loaded.
+     * @param chunk: LevelChunk loaded from this stream.
+     */
+    public void unload(LevelChunk chunk) {
+        int index = chunk.getIndex();
+        if (usedRows[index] == null) {
+            usedRows[index] = new BitSet[EntityRegistry.size()];
+        }
+        chunk.evict(usedRows[index]);
+    }
+
+    /**
+     * Requests a chunk to be loaded on the background thread.
+     * @param index: int index of the chunk.
+     * @return Future of the LevelChunk, done once its objects have been built.
+     */
+    public Future<LevelChunk> request(int index) {
+        return loader.submit(() -> loadChunk(index));
+    }
+
+    /**
+     * Stops the background thread and closes the level file.
+     */
+    public void close() {
+        loader.shutdownNow();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Finds the chunk containing an X position, positions before the level start are in the first chunk.
+     * @param x: double value of X position in the level.
+     * @return int index of the chunk.
+     */
+    public int chunkOf(double x) {
+        return Math.max(0, (int) Math.floor(x / chunkWidth));
+    }
+
+    /**
+     * Estimates the number of objects loaded at once.
+     * @param residentChunks: int number of chunks loaded at once.
+     * @return int value of the average number of objects in that many chunks.
+     */
+    public int estimateObjects(int residentChunks) {
+        if (chunkCount == 0) {
+            return 0;
+        }
+        return (int) Math.min(Integer.MAX_VALUE, rowCount * residentChunks / chunkCount);
+    }
+
+    /**
+     * Getter for the objects with a single instance, the player, platform, end flag and enemy boss.
+     * @return CSVData object with only single instance positions.
+     */
+    public CSVData getSingletons() {
+        return singletons;
+    }
+
+    /**
+     * Getter for the number of chunks in the level.
+     * @return int value of chunk count.
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Reads a line, including its line terminator.
+     * Bytes that do not fit into the buffer are skipped, but counted in the length returned.
+     * @param in: InputStream to read from.
+     * @param line: byte array to read the line into.
+     * @return int number of bytes in the line, which is larger than the buffer if the line did not fit, or -1 at the
+     * end of the file.
+     */
+    private static int readLine(InputStream in, byte[] line) throws IOException {
+        int length = 0;
+        int b;
+        while ((b = in.read()) >= 0) {
+            if (length < line.length) {
+                line[length] = (byte) b;
+            }
+            length++;
+            if (b == '\n') {
+                return length;
+            }
+        }
+        return length == 0 ? -1 : length;
+    }
+
+    private static int trimmedLength(byte[] line, int length) {
+        int end = Math.min(length, line.length);
+        while (end > 0 && (line[end - 1] == '\n' || line[end - 1] == '\r')) {
+            end--;
+        }
+        return end;
+    }
+
+    private static int indexOf(byte[] line, int end, byte value, int from) {
+        for (int i = from; i < end; i++) {
+            if (line[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int parseX(byte[] line, int from, int end) {
+        int comma = indexOf(line, end, (byte) ',', from);
+        String value = new String(line, from, (comma < 0 ? end : comma) - from, StandardCharsets.US_ASCII);
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Error converting to integer: " + value);
+            return 0; // Defaulting to zero, as CSVData does
+        }
+    }
+}
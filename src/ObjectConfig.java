@@ -0,0 +1,114 @@
+import java.util.Properties;
+
+/**
+ * A class holding the attribute values of a single game object type, parsed once from the properties file.
+ * Attributes an object type does not define default to zero.
+ * Speeds and frame counts are given per state update at GameConfig.BASE_TICK_RATE, and kept scaled to the tick rate.
+ */
+public class ObjectConfig {
+    private final String type;
+    private final String image, imageLeft;
+    private final int maxRandomDisplacementX, activationRadius, halfLength, halfHeight, value, maxFrames, poolSize;
+    private final double speed, randomSpeed, radius, health, damageSize, tickScale;
+
+    /**
+     * Constructor for ObjectConfig object.
+     * @param props: Properties object containing the gameObjects attributes.
+     * @param type: String of object type, e.g. "coin".
+     * @param tickScale: double value of BASE_TICK_RATE divided by the tick rate.
+     * @param requiredKeys: attribute names that must be present for this object type.
+     */
+    public ObjectConfig(Properties props, String type, double tickScale, String... requiredKeys) {
+        this.type = type;
+        this.tickScale = tickScale;
+        for (String key : requiredKeys) {
+            GameConfig.require(props, key(key));
+        }
+
+        /**
+         * Player has a different image name format and does not scroll.
+         */
+        if ("player".equals(type)) {
+            image = GameConfig.require(props, key("imageRight"));
+            imageLeft = props.getProperty(key("imageLeft"));
+            speed = 0;
+        } else {
+            image = GameConfig.require(props, key("image"));
+            imageLeft = null;
+            speed = GameConfig.parseInt(props, key("speed")) * tickScale;
+        }
+
+        randomSpeed = GameConfig.parseInt(props, key("randomSpeed"), 0) * tickScale;
+        maxRandomDisplacementX = GameConfig.parseInt(props, key("maxRandomDisplacementX"), 0);
+        activationRadius = GameConfig.parseInt(props, key("activationRadius"), 0);
+        halfLength = GameConfig.parseInt(props, key("halfLength"), 0);
+        halfHeight = GameConfig.parseInt(props, key("halfHeight"), 0);
+        value = GameConfig.parseInt(props, key("value"), 0);
+        maxFrames = (int) Math.round(GameConfig.parseInt(props, key("maxFrames"), 0) / tickScale);
+        poolSize = GameConfig.parseInt(props, key("poolSize"), 0);
+        radius = GameConfig.parseDouble(props, key("radius"), 0);
+        health = GameConfig.parseDouble(props, key("health"), 0);
+        damageSize = GameConfig.parseDouble(props, key("damageSize"), 0);
+    }
+
+    /**
+     * Helper function to build the full property key of an attribute.
+     * @param attribute: attribute name.
+     * @return String of property key.
+     */
+    private String key(String attribute) {
+        return "gameObjects." + type + "." + attribute;
+    }
+
+    /**
+     * Getters for all attribute values.
+     */
+    public String getType() {
+        return type;
+    }
+    public String getImage() {
+        return image;
+    }
+    public String getImageLeft() {
+        return imageLeft;
+    }
+    public double getSpeed() {
+        return speed;
+    }
+    public double getRandomSpeed() {
+        return randomSpeed;
+    }
+    public int getMaxRandomDisplacementX() {
+        return maxRandomDisplacementX;
+    }
+    public int getActivationRadius() {
+        return activationRadius;
+    }
+    public int getHalfLength() {
+        return halfLength;
+    }
+    public int getHalfHeight() {
+        return halfHeight;
+    }
+    public int getValue() {
+        return value;
+    }
+    public int getMaxFrames() {
+        return maxFrames;
+    }
+    public int getPoolSize() {
+        return poolSize;
+    }
+    public double getRadius() {
+        return radius;
+    }
+    public double getHealth() {
+        return health;
+    }
+    public double getDamageSize() {
+        return damageSize;
+    }
+    public double getTickScale() {
+        return tickScale;
+    }
+}
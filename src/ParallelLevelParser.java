@@ -0,0 +1,77 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A class to parse large CSV level files on all cores.
+ * The memory mapped file is split into byte ranges aligned to line terminators, and each range is parsed by a
+ * LevelParser on a fork join worker. Results are appended in file order, so the positions and the reported errors
+ * are the same as parsing the file sequentially. Files smaller than a single range are parsed on the calling thread.
+ */
+public class ParallelLevelParser extends RecursiveTask<LevelParser> {
+    private static final int MIN_RANGE_BYTES = 1 << 20;
+    private final String source;
+    private final MappedByteBuffer bytes;
+    private final int start, end;
+
+    private ParallelLevelParser(String source, MappedByteBuffer bytes, int start, int end) {
+        this.source = source;
+        this.bytes = bytes;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses a CSV level file.
+     * @param csvFile: path to the CSV file, at most 2 GB, larger levels must be streamed.
+     * @return CSVData of the level.
+     * @throws IOException if the file can not be read.
+     */
+    public static CSVData parse(String csvFile) throws IOException {
+        MappedByteBuffer bytes;
+        try (FileChannel channel = FileChannel.open(Paths.get(csvFile), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException(csvFile + " is too large to be read at once");
+            }
+            bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        ParallelLevelParser task = new ParallelLevelParser(csvFile, bytes, 0, bytes.limit());
+        LevelParser parser = bytes.limit() <= MIN_RANGE_BYTES ? task.compute() : ForkJoinPool.commonPool().invoke(task);
+        parser.reportErrors(1);
+        return parser.toCSVData();
+    }
+
+    @Override
+    protected LevelParser compute() {
+        /**
+         * Split the range in half at the first line terminator after the middle, until ranges are small enough.
+         */
+        if (end - start > 2 * MIN_RANGE_BYTES) {
+            int middle = start + (end - start) / 2;
+            while (middle < end && bytes.get(middle - 1) != '\n') {
+                middle++;
+            }
+            if (middle < end) {
+                ParallelLevelParser left = new ParallelLevelParser(source, bytes, start, middle);
+                ParallelLevelParser right = new ParallelLevelParser(source, bytes, middle, end);
+                right.fork();
+                LevelParser parsed = left.compute();
+                return parsed.append(right.join());
+            }
+        }
+
+        /**
+         * Line numbers are relative to the start of the range until the results are appended.
+         */
+        ByteBuffer range = bytes.duplicate();
+        range.limit(end);
+        range.position(start);
+        return new LevelParser(source, true).parse(range, 0);
+    }
+}
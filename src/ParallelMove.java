@@ -0,0 +1,36 @@
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork join task to move the rows of a table with random movement on all cores.
+ * Random movement of a row only reads and writes that row, so the rows are split into ranges that are moved
+ * independently. Workers do not touch the collision grid, the EntityStore notifies it afterwards in row order, so
+ * the result is the same as moving the rows sequentially.
+ */
+public class ParallelMove extends RecursiveAction {
+    private final EntityStore<?> store;
+    private final int start, end, minRows;
+
+    /**
+     * Constructor for ParallelMove task.
+     * @param store: EntityStore to move.
+     * @param start: int index of the first row.
+     * @param end: int index after the last row.
+     * @param minRows: int number of rows below which a range is moved on a single worker.
+     */
+    public ParallelMove(EntityStore<?> store, int start, int end, int minRows) {
+        this.store = store;
+        this.start = start;
+        this.end = end;
+        this.minRows = Math.max(1, minRows);
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= minRows) {
+            store.moveRange(start, end);
+            return;
+        }
+        int middle = start + (end - start) / 2;
+        invokeAll(new ParallelMove(store, start, middle, minRows), new ParallelMove(store, middle, end, minRows));
+    }
+}
@@ -0,0 +1,57 @@
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork join task to test the candidates of a collision grid query for an actual collision on all cores.
+ * Tests only read positions and radii, so each worker fills in the results of a range of candidates, and the effects
+ * of the collisions are applied afterwards in candidate order, the same as testing them sequentially.
+ */
+public class ParallelNarrowPhase extends RecursiveAction {
+    private final Collidable object;
+    private final SpatialHash grid;
+    private final boolean[] hits;
+    private final int start, end, minCandidates;
+
+    /**
+     * Constructor for ParallelNarrowPhase task.
+     * @param object: Collidable object the grid was queried for, e.g. the player.
+     * @param grid: SpatialHash holding the candidates of the last query.
+     * @param hits: boolean array to store whether each candidate collides with the object.
+     * @param start: int index of the first candidate.
+     * @param end: int index after the last candidate.
+     * @param minCandidates: int number of candidates below which a range is tested on a single worker.
+     */
+    public ParallelNarrowPhase(Collidable object, SpatialHash grid, boolean[] hits, int start, int end,
+                               int minCandidates) {
+        this.object = object;
+        this.grid = grid;
+        this.hits = hits;
+        this.start = start;
+        this.end = end;
+        this.minCandidates = Math.max(1, minCandidates);
+    }
+
+    /**
+     * Tests a range of candidates on the calling thread.
+     * @param object: Collidable object the grid was queried for.
+     * @param grid: SpatialHash holding the candidates of the last query.
+     * @param hits: boolean array to store whether each candidate collides with the object.
+     * @param start: int index of the first candidate.
+     * @param end: int index after the last candidate.
+     */
+    public static void test(Collidable object, SpatialHash grid, boolean[] hits, int start, int end) {
+        for (int i = start; i < end; i++) {
+            hits[i] = object.checkCollision((Collidable) grid.getResult(i));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (end - start <= minCandidates) {
+            test(object, grid, hits, start, end);
+            return;
+        }
+        int middle = start + (end - start) / 2;
+        invokeAll(new ParallelNarrowPhase(object, grid, hits, start, middle, minCandidates),
+                new ParallelNarrowPhase(object, grid, hits, middle, end, minCandidates));
+    }
+}
@@ -1,9 +1,3 @@
-import bagel.Input;
-import bagel.Keys;
-import bagel.util.Point;
-
-import java.util.Properties;
-
 /**
  * A subclass extending from GameObject parent class, representing the main platform object
  */
@@ -13,36 +7,34 @@ public class Platform extends GameObject {
 
     /**
      * Constructor for platform.
-     * @param gameProps: Properties object to access files and attribute values.
+     * @param config: GameConfig object to access files and attribute values.
      * @param type: String of type of platform.
      * @param platformPosition: int array of initial position.
      */
-    public Platform(Properties gameProps, String type, int[] platformPosition){
-        super(gameProps, type, platformPosition);
+    public Platform(GameConfig config, String type, int[] platformPosition){
+        super(config, type, platformPosition);
     }
 
-
     /**
-     * Implementation of move method to ensure platform doesn't move beyond specified range.
-     * @param input: user's keyboard input.
+     * Constructor for platforms with multiple instances.
+     * @param config: GameConfig object to access files and attribute values.
+     * @param type: String of type of platform.
+     * @param platformPosition: int array of initial position.
+     * @param store: EntityStore of the platform's type.
      */
-    public void move(Input input){
-        /**
-         * Move right if X position is greater than minimum value.
-         */
-        if (input.isDown(Keys.RIGHT)) {
-            if (getPosition().x > X_MIN) {
-                updatePosition(new Point(getPosition().x - this.getSPEED(), getPosition().y));
-            }
-        }
+    public Platform(GameConfig config, String type, int[] platformPosition, EntityStore<?> store){
+        super(config, type, platformPosition, store);
+    }
+
 
-        /**
-         * Move left if X position is less than initial position.
-         */
-        if (input.isDown(Keys.LEFT)) {
-            if (getPosition().x < this.getINITIAL_POSITION().x) {
-                updatePosition(new Point(getPosition().x + this.getSPEED(), getPosition().y));
-            }
-        }
+    /**
+     * Implementation of render method to ensure platform doesn't move beyond specified range.
+     * The platform scrolls with the camera until its X position on screen reaches the minimum value.
+     * @param queue: RenderQueue to submit the draw to.
+     * @param camera: Camera object of the current view.
+     */
+    @Override
+    public void render(RenderQueue queue, Camera camera){
+        queue.submit(getObjectImage(), Math.max(getScreenX(camera), X_MIN), getScreenY(camera));
     }
 }
@@ -1,52 +1,55 @@
-import bagel.Input;
 import bagel.Keys;
-import bagel.util.Point;
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Properties;
 
 /**
  * A subclass extending from the Character parent class and implementing the Shootable interface, reprenting
  * the attributes of a player entity.
  */
 public class Player extends Character implements Shootable{
-    private int score, verticalSpeed;
+    private int score;
+    private double verticalSpeed;
     private boolean onPlatform, bossActivated;
     private static final int INITIAL_VERTICAL_SPEED = -20;
     private static final int JUMP_SPEED = 1;
     private static final int PLATFORM_TOLERANCE = 50;
     private static final int FALL_SPEED = 2; // Fall speed for loss condition
-    private List<Fireball> fireballs;
-    private final Properties gameProps;
+    private final FireballPool fireballs;
+    private final int windowHeight;
+    private final double initialVerticalSpeed, jumpSpeed, fallSpeed; // scaled to the tick rate
+    private final Sprite IMAGE_LEFT, IMAGE_RIGHT;
 
     /**
      * Constructor for player object.
-     * @param game_props: Properties object to access files and attribute values.
+     * @param config: GameConfig object to access files and attribute values.
      * @param playerPosition: int array of initial position.
      */
-    public Player(Properties game_props, int[] playerPosition) {
-        super(game_props, "player", playerPosition);
+    public Player(GameConfig config, int[] playerPosition) {
+        super(config, "player", playerPosition);
 
         /**
          * Sets all parameters to initial value.
          */
         score = 0;
-        gameProps = game_props;
-        health = Double.parseDouble(gameProps.getProperty("gameObjects.player.health"));
+        windowHeight = config.getWindowHeight();
+        initialVerticalSpeed = config.scaleSpeed(INITIAL_VERTICAL_SPEED);
+        jumpSpeed = config.scaleAcceleration(JUMP_SPEED);
+        fallSpeed = config.scaleSpeed(FALL_SPEED);
+        IMAGE_LEFT = AssetCache.getSprite(getObjectConfig().getImageLeft());
+        IMAGE_RIGHT = AssetCache.getSprite(getObjectConfig().getImage());
+        health = getObjectConfig().getHealth();
         verticalSpeed = 0;
         onPlatform = true;
         bossActivated = false;
-        this.fireballs = new ArrayList<>();
+        this.fireballs = new FireballPool(config);
     }
 
     /**
      * Player implementation of move method relative to user keyboard input.
      * @param input: User's keyboard input.
-     * @param flyingPlatforms: array of flying platform objects to check for collisions.
+     * @param camera: Camera object of the current view.
+     * @param flyingPlatforms: table of flying platform objects to check for collisions.
      * @param boss: enemy boss object to check activation radius.
      */
-    public void move(Input input, FlyingPlatform[] flyingPlatforms, EnemyBoss boss){
+    public void move(GameInput input, Camera camera, EntityStore<FlyingPlatform> flyingPlatforms, EnemyBoss boss){
 
         /**
          * Handle movement when lose condition reached (health is zero or less).
@@ -55,28 +58,34 @@ public class Player extends Character implements Shootable{
             /**
              * Player moves down until not visible in window.
              */
-            verticalSpeed = FALL_SPEED;
-            if (getPosition().y < (Integer.parseInt(gameProps.getProperty("windowHeight"))) + getObjectImage().getHeight()) {
-                updatePosition(new Point(getPosition().x, getPosition().y + verticalSpeed));
+            verticalSpeed = fallSpeed;
+            if (getY() < windowHeight + getObjectImage().getHeight()) {
+                translate(0, verticalSpeed);
             }
         } else {
             /**
              * Handle input, update fireballs, and check for jumping motion.
              */
             handleInput(input, boss);
-            updateFireballs();
+            updateFireballs(camera);
             jump(input, flyingPlatforms);
-            updatePosition(new Point(getPosition().x, getPosition().y + verticalSpeed));
+            translate(0, verticalSpeed);
 
         }
+
+        /**
+         * Player stays in place on screen, so it moves through the level along with the camera.
+         * Done last so that jumping and shooting above act from where the player was before this scroll.
+         */
+        translate(camera.getScrollDelta(), 0);
     }
 
-    private void handleInput(Input input, EnemyBoss boss) {
+    private void handleInput(GameInput input, EnemyBoss boss) {
         if (input.isDown(Keys.LEFT)) {
-            setObjectImage(gameProps.getProperty("gameObjects.player.imageLeft"));
+            setObjectImage(IMAGE_LEFT);
         }
         if (input.isDown(Keys.RIGHT)) {
-            setObjectImage(gameProps.getProperty("gameObjects.player.imageRight"));
+            setObjectImage(IMAGE_RIGHT);
         }
         if (input.wasPressed(Keys.S)){
             if (bossActivated) shootFireball(boss);
@@ -88,16 +97,16 @@ public class Player extends Character implements Shootable{
     /**
      * A jump method to allow player's vertical movement.
      * @param input: User's keyboard input.
-     * @param flyingPlatforms: array of flying platform objects.
+     * @param flyingPlatforms: table of flying platform objects.
      */
-    private void jump(Input input, FlyingPlatform[] flyingPlatforms){
+    private void jump(GameInput input, EntityStore<FlyingPlatform> flyingPlatforms){
 
         if (input.wasPressed(Keys.UP)) {
             /**
              * Only allow jump if player has platform support.
              */
             if (onMainPlatform() || onFlyingPlatform(flyingPlatforms)) {
-                verticalSpeed = INITIAL_VERTICAL_SPEED;
+                verticalSpeed = initialVerticalSpeed;
                 onPlatform = false;
             }
         }
@@ -105,8 +114,8 @@ public class Player extends Character implements Shootable{
         /**
          * Falling effect when mid-jump.
          */
-        if (getPosition().y < getINITIAL_POSITION().y && !onPlatform) {
-            verticalSpeed += JUMP_SPEED;
+        if (getY() < getINITIAL_Y() && !onPlatform) {
+            verticalSpeed += jumpSpeed;
         }
 
         /**
@@ -133,7 +142,7 @@ public class Player extends Character implements Shootable{
     private void landOnPlatform(double platformY) {
         verticalSpeed = 0;
         onPlatform = true;
-        updatePosition(new Point(getPosition().x, platformY));
+        setPosition(getX(), platformY);
     }
 
 
@@ -143,8 +152,8 @@ public class Player extends Character implements Shootable{
      * @return boolean value if collided.
      */
     private boolean isColliding(FlyingPlatform platform) {
-        double xDistance = Math.abs(getPosition().x - platform.getPosition().x);
-        double yDistance = platform.getPosition().y - getPosition().y;  // platform_y - player_y
+        double xDistance = Math.abs(getX() - platform.getX());
+        double yDistance = platform.getY() - getY();  // platform_y - player_y
 
         return xDistance < platform.getHALF_LENGTH() &&  // half length
                 yDistance <= platform.getHALF_HEIGHT() &&  // half height
@@ -154,22 +163,22 @@ public class Player extends Character implements Shootable{
 
     /**
      * Checks if a player landed on any platform
-     * @param flyingPlatforms: array of flying platform objects.
+     * Package-private so the benchmarks can measure it against many flying platforms.
+     * @param flyingPlatforms: table of flying platform objects.
      */
-    private void checkLanding(FlyingPlatform[] flyingPlatforms) {
+    void checkLanding(EntityStore<FlyingPlatform> flyingPlatforms) {
         boolean foundPlatform = false;
 
         /**
-         * Checks if flyingPlatforms is not null to accommodate for levels without flying platforms.
          * Iterate through all flying platforms to check for collision.
+         * Levels without flying platforms have an empty set.
          */
-        if (flyingPlatforms != null) {
-            for (FlyingPlatform platform : flyingPlatforms) {
-                if (isColliding(platform)) {
-                    landOnPlatform(platform.getPosition().y - platform.getHALF_HEIGHT());
-                    foundPlatform = true;
-                    break;  // Stop checking once a landing is detected
-                }
+        for (int i = 0; i < flyingPlatforms.size(); i++) {
+            FlyingPlatform platform = flyingPlatforms.get(i);
+            if (isColliding(platform)) {
+                landOnPlatform(platform.getY() - platform.getHALF_HEIGHT());
+                foundPlatform = true;
+                break;  // Stop checking once a landing is detected
             }
         }
 
@@ -177,22 +186,20 @@ public class Player extends Character implements Shootable{
          * Land on main platform if no flying platform was landed on.
          */
         if (!foundPlatform && onMainPlatform()) {
-            landOnPlatform(getINITIAL_POSITION().y);
+            landOnPlatform(getINITIAL_Y());
         }
     }
 
 
     /**
      * Checks if player is on any flying platform
-     * @param flyingPlatforms: array of flying platform objects
+     * @param flyingPlatforms: table of flying platform objects
      * @return boolean value
      */
-    private boolean onFlyingPlatform(FlyingPlatform[] flyingPlatforms) {
-        if (flyingPlatforms != null) {
-            for (FlyingPlatform platform : flyingPlatforms) {
-                if (this.isColliding(platform)) {
-                    return true;
-                }
+    private boolean onFlyingPlatform(EntityStore<FlyingPlatform> flyingPlatforms) {
+        for (int i = 0; i < flyingPlatforms.size(); i++) {
+            if (this.isColliding(flyingPlatforms.get(i))) {
+                return true;
             }
         }
         return false;
@@ -204,7 +211,7 @@ public class Player extends Character implements Shootable{
      * @return boolean value
      */
     private boolean onMainPlatform(){
-        return (getPosition().y >= getINITIAL_POSITION().y) && (getPosition().y <= getINITIAL_POSITION().y + PLATFORM_TOLERANCE);
+        return (getY() >= getINITIAL_Y()) && (getY() <= getINITIAL_Y() + PLATFORM_TOLERANCE);
     }
 
 
@@ -215,7 +222,7 @@ public class Player extends Character implements Shootable{
      */
     public void checkBossActivated(EnemyBoss boss) {
         if (boss != null) {
-            if ((boss.getPosition().x - getPosition().x) <= boss.getACTIVATION_RADIUS()){
+            if ((boss.getX() - getX()) <= boss.getACTIVATION_RADIUS()){
                 bossActivated = true;
             }
         }
@@ -237,38 +244,27 @@ public class Player extends Character implements Shootable{
 
         GameObject gameObject = (GameObject) target;
         /**
-         * Construct a new fireball to move towards target.
+         * Launch a pooled fireball to move towards target.
          */
-        boolean movingRight = getPosition().x < gameObject.getPosition().x;
-        int [] position = {(int) getPosition().x, (int)getPosition().y};
-        Fireball newFireball = new Fireball(gameProps, position, movingRight);
-        fireballs.add(newFireball);
+        boolean movingRight = getX() < gameObject.getX();
+        fireballs.spawn(getX(), getY(), movingRight);
     }
 
 
     /**
-     * Method to update fireballs in the list.
+     * Method to update fireballs in the pool.
+     * @param camera: Camera object of the current view.
      */
-    public void updateFireballs() {
-        Iterator<Fireball> it = fireballs.iterator();
-        while (it.hasNext()) {
-            Fireball fireball = it.next();
-            fireball.move();
-            /**
-             * Remove fireball if off screen or has collided with target.
-             */
-            if (fireball.isOffScreen() || fireball.hasCollided()) {
-                it.remove();
-            }
-        }
+    public void updateFireballs(Camera camera) {
+        fireballs.update(camera);
     }
 
     /**
-     * Getter for fireball list.
+     * Getter for fireball pool.
      * Used to render and check for collisions.
-     * @return List of fireballs.
+     * @return FireballPool of fireballs.
      */
-    public List<Fireball> getFireballs(){
+    public FireballPool getFireballs(){
         return fireballs;
     }
 
@@ -0,0 +1,57 @@
+import java.io.IOException;
+
+/**
+ * A class holding a level that has been read and had its objects constructed, ready to be loaded.
+ * Preparing a level does not need a graphics context, so it can run on a background thread. A prepared level can
+ * only be loaded once, as playing the level changes its objects.
+ */
+public class PreparedLevel {
+    private final int level;
+    private final CSVData objectPositions;
+    private final LevelChunk chunk;
+    private final LevelStream stream;
+
+    private PreparedLevel(int level, CSVData objectPositions, LevelChunk chunk, LevelStream stream) {
+        this.level = level;
+        this.objectPositions = objectPositions;
+        this.chunk = chunk;
+        this.stream = stream;
+    }
+
+    /**
+     * Reads a level file and constructs its objects.
+     * Large level files are only indexed, as their objects are streamed while the level is played. A large file that
+     * can not be streamed, e.g. because it is not sorted by X position, is read at once instead.
+     * @param config: GameConfig object to build the level's objects with.
+     * @param level: game level to prepare.
+     * @return PreparedLevel object.
+     * @throws IOException if the level file can not be read.
+     */
+    public static PreparedLevel prepare(GameConfig config, int level) throws IOException {
+        String levelFile = config.getLevelFile(level);
+        if (IOUtils.isStreamedLevel(config, levelFile)) {
+            try {
+                return new PreparedLevel(level, null, null, IOUtils.openLevelStream(config, level, levelFile));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println("Can not stream " + levelFile + ", reading it at once: " + e.getMessage());
+            }
+        }
+        CSVData objectPositions = IOUtils.readLevel(levelFile);
+        if (objectPositions == null) {
+            throw new IOException("Level file " + levelFile + " can not be read");
+        }
+        return new PreparedLevel(level, objectPositions, new LevelChunk(config, level, 0, objectPositions), null);
+    }
+
+    /**
+     * Loads the level into a LevelManager.
+     * @param levelManager: LevelManager to load the level into.
+     */
+    public void loadInto(LevelManager levelManager) {
+        if (stream != null) {
+            levelManager.loadLevel(level, stream);
+        } else {
+            levelManager.loadLevel(level, objectPositions, chunk);
+        }
+    }
+}
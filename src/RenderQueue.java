@@ -0,0 +1,94 @@
+import java.util.Arrays;
+
+/**
+ * A class to collect the sprite draws of a frame and submit them grouped by layer and texture.
+ * Draws are sorted by layer first, so objects in higher layers still appear on top, and by texture within a layer,
+ * so that all draws of the same image are issued back to back as one batch instead of switching textures between
+ * object types. Draws with the same layer and texture keep their submission order.
+ */
+public class RenderQueue {
+    /**
+     * Layers in drawing order, from back to front.
+     */
+    public static final int PLATFORMS = 0, OBJECTS = 1, BOSS = 2, FIREBALLS = 3, PLAYER = 4;
+    private static final int SEQUENCE_BITS = 32, SPRITE_BITS = 24;
+
+    private Sprite[] sprites = new Sprite[256];
+    private double[] xs = new double[256], ys = new double[256];
+    private long[] keys = new long[256];
+    private int size;
+    private int layer;
+    private int drawCalls, batches;
+
+    /**
+     * Setter for the layer of subsequent draws.
+     * @param layer: int layer, one of the layer constants.
+     */
+    public void setLayer(int layer) {
+        this.layer = layer;
+    }
+
+    /**
+     * Adds a sprite draw to the queue.
+     * @param sprite: Sprite to draw.
+     * @param x: double value of X position in the window.
+     * @param y: double value of Y position in the window.
+     */
+    public void submit(Sprite sprite, double x, double y) {
+        if (size == sprites.length) {
+            grow();
+        }
+        sprites[size] = sprite;
+        xs[size] = x;
+        ys[size] = y;
+        keys[size] = ((long) layer << (SEQUENCE_BITS + SPRITE_BITS))
+                | ((long) (sprite.getId() & ((1 << SPRITE_BITS) - 1)) << SEQUENCE_BITS)
+                | size;
+        size++;
+    }
+
+    /**
+     * Sorts the queued draws by layer and texture, draws them, and empties the queue.
+     */
+    public void flush() {
+        Arrays.sort(keys, 0, size);
+        drawCalls = size;
+        batches = 0;
+        Sprite current = null;
+        for (int i = 0; i < size; i++) {
+            int index = (int) keys[i];
+            Sprite sprite = sprites[index];
+            if (sprite != current) {
+                current = sprite;
+                batches++;
+            }
+            sprite.draw(xs[index], ys[index]);
+            sprites[index] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Getter for number of draws submitted in the last flushed frame.
+     * @return int value of draw calls.
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Getter for number of texture batches in the last flushed frame.
+     * @return int value of batches, one per run of draws sharing a texture.
+     */
+    public int getBatches() {
+        return batches;
+    }
+
+    private void grow() {
+        int capacity = sprites.length * 2;
+        sprites = Arrays.copyOf(sprites, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+    }
+}
@@ -0,0 +1,40 @@
+import bagel.Keys;
+
+/**
+ * A GameInput that plays back the masks of an input recording.
+ */
+public class ReplayInput implements GameInput {
+    private int mask;
+
+    /**
+     * Sets the keyboard state of the next state update.
+     * @param mask: int mask of a state update, see the InputRecorder bits.
+     */
+    public void set(int mask) {
+        this.mask = mask;
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        switch (key) {
+            case LEFT:
+                return (mask & InputRecorder.LEFT) != 0;
+            case RIGHT:
+                return (mask & InputRecorder.RIGHT) != 0;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        switch (key) {
+            case UP:
+                return (mask & InputRecorder.UP) != 0;
+            case S:
+                return (mask & InputRecorder.SHOOT) != 0;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * A class to replay a recorded session without a window, as fast as possible.
+ * The recording's random seed is used in place of the configured one, so the replay makes the same state updates
+ * as the recorded session. Useful to turn real play sessions into repeatable workloads and regression cases.
+ */
+public class ReplayRunner {
+    private final GameConfig config;
+    private final LevelManager levelManager;
+    private final ReplayInput input = new ReplayInput();
+    private long ticks;
+    private int level;
+    private boolean started;
+
+    /**
+     * Constructor for ReplayRunner object.
+     * @param config: GameConfig object with the recording's random seed.
+     */
+    public ReplayRunner(GameConfig config) {
+        this(config, new FrameProfiler());
+    }
+
+    /**
+     * Constructor for ReplayRunner object, timing the state updates in the given profiler.
+     * @param config: GameConfig object with the recording's random seed.
+     * @param profiler: FrameProfiler to record the phases of the state updates in, e.g. shared between replays.
+     */
+    public ReplayRunner(GameConfig config, FrameProfiler profiler) {
+        this.config = config;
+        this.levelManager = new LevelManager(config, profiler);
+    }
+
+    /**
+     * Plays a recording from its current position to its end, following the same steps as ShadowMario.update.
+     * @param log: InputLog to play.
+     * @throws IOException if a level file can not be read.
+     */
+    public void play(InputLog log) throws IOException {
+        while (log.hasNext()) {
+            int mask = log.next();
+            if ((mask & InputRecorder.LEVELS) != 0) {
+                /**
+                 * Levels are selected in the same order as on the start screen.
+                 */
+                for (int i = 1; i <= 3; i++) {
+                    if ((mask & (InputRecorder.LEVEL_1 << (i - 1))) != 0) {
+                        PreparedLevel.prepare(config, i).loadInto(levelManager);
+                        level = i;
+                        started = true;
+                    }
+                }
+            } else if ((mask & InputRecorder.RESTART) != 0) {
+                report();
+                levelManager.reset();
+                started = false;
+            } else if (started && !levelManager.checkWinLose()) {
+                input.set(mask);
+                levelManager.update(input);
+                ticks++;
+            }
+        }
+        if (started) {
+            report();
+        }
+    }
+
+    /**
+     * Prints the state of the level being played.
+     */
+    private void report() {
+        Player player = levelManager.getPlayer();
+        System.out.printf("Level %d: score %d, health %.2f, %s%n", level, player.getScore(), player.getHealth(),
+                !levelManager.checkWinLose() ? "unfinished" : levelManager.gameWon() ? "won" : "lost");
+    }
+
+    /**
+     * Getter for number of state updates replayed.
+     * @return long value of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Entry point to replay a recording.
+     * @param args: path of the recording file, and optionally the number of times to replay it (default 1).
+     */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReplayRunner <recording file> [repeats]");
+            return;
+        }
+        int repeats = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        InputLog log;
+        try {
+            log = InputLog.read(args[0]);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        gameProps.setProperty("randomSeed", Long.toString(log.getSeed()));
+        GameConfig config = new GameConfig(gameProps, IOUtils.readPropertiesFile("res/message_en.properties"));
+        System.out.println("Random seed: " + config.getRandomSeed());
+
+        FrameProfiler profiler = new FrameProfiler();
+        long ticks = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < repeats; i++) {
+            ReplayRunner runner = new ReplayRunner(config, profiler);
+            log.rewind();
+            try {
+                runner.play(log);
+            } catch (IOException e) {
+                e.printStackTrace();
+                return;
+            }
+            ticks += runner.getTicks();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Replayed %d ticks in %.3f s (%.0f ticks/s)%n", ticks, seconds, ticks / seconds);
+        profiler.printSummary(System.out);
+    }
+}
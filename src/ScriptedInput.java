@@ -0,0 +1,58 @@
+import bagel.Keys;
+
+/**
+ * A synthetic GameInput used to drive the game without a window.
+ * Keys can be held across state updates or pressed for a single state update.
+ */
+public class ScriptedInput implements GameInput {
+    private final boolean[] held = new boolean[Keys.values().length];
+    private final boolean[] pressed = new boolean[Keys.values().length];
+
+    /**
+     * Holds a key down until it is released.
+     * @param key: key to hold.
+     */
+    public void hold(Keys key) {
+        held[key.ordinal()] = true;
+    }
+
+    /**
+     * Releases a held key.
+     * @param key: key to release.
+     */
+    public void release(Keys key) {
+        held[key.ordinal()] = false;
+    }
+
+    /**
+     * Presses a key for the next state update only.
+     * @param key: key to press.
+     */
+    public void press(Keys key) {
+        pressed[key.ordinal()] = true;
+        held[key.ordinal()] = true;
+    }
+
+    /**
+     * Clears single presses after a state update has consumed them.
+     * Keys pressed with press() are also released, keys held with hold() stay down.
+     */
+    public void advance() {
+        for (int i = 0; i < pressed.length; i++) {
+            if (pressed[i]) {
+                pressed[i] = false;
+                held[i] = false;
+            }
+        }
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        return held[key.ordinal()];
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        return pressed[key.ordinal()];
+    }
+}
@@ -1,4 +1,5 @@
 import bagel.*;
+import java.io.IOException;
 import java.util.*;
 
 
@@ -10,28 +11,36 @@ import java.util.*;
  */
 public class ShadowMario extends AbstractGame {
 
-    private final Image BACKGROUND_IMAGE;
-    private final Properties gameProps, messageProps;
+    private final Sprite BACKGROUND_IMAGE;
+    private final GameConfig config;
     private boolean gameStarted;
+    private boolean loadFailed;
     private LevelManager levelManager;
+    private final BagelInput gameInput = new BagelInput();
+    private final FixedTimestep timestep;
+    private final LevelPreloader preloader;
+    private final InputRecorder recorder;
+    private final FrameProfiler profiler;
 
     private DisplayManager display;
 
 
     /**
      * The constructor for ShadowMario.
+     * @param config: GameConfig object compiled from the properties files.
      */
-    public ShadowMario(Properties game_props, Properties message_props) {
-        super(Integer.parseInt(game_props.getProperty("windowWidth")),
-              Integer.parseInt(game_props.getProperty("windowHeight")),
-              message_props.getProperty("title"));
-
-        gameProps = IOUtils.readPropertiesFile("res/app.properties");
-        messageProps = IOUtils.readPropertiesFile("res/message_en.properties");
-        BACKGROUND_IMAGE = new Image(game_props.getProperty("backgroundImage"));
+    public ShadowMario(GameConfig config) {
+        super(config.getWindowWidth(), config.getWindowHeight(), config.getTitleMessage());
+
+        this.config = config;
+        BACKGROUND_IMAGE = AssetCache.getSprite(config.getBackgroundImage());
         gameStarted = false;
-        display = new DisplayManager(gameProps, messageProps);
-        levelManager = new LevelManager(gameProps);
+        display = new DisplayManager(config);
+        profiler = new FrameProfiler();
+        levelManager = new LevelManager(config, profiler);
+        timestep = new FixedTimestep(config.getTickRate(), config.getMaxTicksPerFrame());
+        preloader = new LevelPreloader(config);
+        recorder = new InputRecorder(config.getRandomSeed());
 
 
     }
@@ -40,20 +49,61 @@ public class ShadowMario extends AbstractGame {
      * The entry point for the program.
      */
     public static void main(String[] args) {
-        Properties game_props = IOUtils.readPropertiesFile("res/app.properties");
-        Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
-        ShadowMario game = new ShadowMario(game_props, message_props);
+        GameConfig config = new GameConfig(IOUtils.readPropertiesFile("res/app.properties"),
+                IOUtils.readPropertiesFile("res/message_en.properties"));
+        /**
+         * Record the seed, so that the session can be reproduced by setting randomSeed in app.properties.
+         */
+        System.out.println("Random seed: " + config.getRandomSeed());
+        ShadowMario game = new ShadowMario(config);
         game.run();
+        game.saveRecording();
+        game.profiler.printSummary(System.out);
     }
 
     /**
-     * Performs a state update of the selected level.
+     * Saves the input of the session, so that it can be replayed with ReplayRunner.
+     */
+    private void saveRecording() {
+        if (config.getRecordingFile() == null) {
+            return;
+        }
+        try {
+            recorder.save(config.getRecordingFile());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads a level prepared in the background.
+     * If the level file can not be read, the game stays on the start screen and shows an error message.
+     * @param level: game level selected.
+     * @return boolean value, true if the level was loaded.
+     */
+    private boolean loadLevel(int level) {
+        try {
+            preloader.take(level).loadInto(levelManager);
+            loadFailed = false;
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
+            loadFailed = true;
+            return false;
+        }
+    }
+
+    /**
+     * Renders a frame and performs the state updates of the selected level that are due.
+     * State updates run at the configured tick rate independent of the frame rate, and objects are drawn
+     * interpolated between the last two state updates.
      * Allows the game to exit when the escape key is pressed.
      * Handle screen navigation between levels and instruction pages here.
      * @param input: User's keyboard entry.
      */
     @Override
     public void update(Input input) {
+        long frameStart = System.nanoTime();
         BACKGROUND_IMAGE.draw(Window.getWidth() / 2.0, Window.getHeight() / 2.0);
 
         /**
@@ -61,23 +111,36 @@ public class ShadowMario extends AbstractGame {
          */
         if (!gameStarted) {
             display.renderStartScreen();
+            if (loadFailed) {
+                display.renderLoadError();
+            }
+            preloader.loadImages();
 
             /**
              * For every level selected, read a different CSV file and construct objects accordingly.
              */
-            if (input.wasPressed(Keys.NUM_1)) {
-                levelManager.loadLevel(1, IOUtils.readCsv(gameProps.getProperty("level1File")));
+            int selected = 0;
+            if (input.wasPressed(Keys.NUM_1) && loadLevel(1)) {
                 gameStarted = true;
+                selected |= InputRecorder.LEVEL_1;
             }
 
-            if (input.wasPressed(Keys.NUM_2)) {
-                levelManager.loadLevel(2, IOUtils.readCsv(gameProps.getProperty("level2File")));
+            if (input.wasPressed(Keys.NUM_2) && loadLevel(2)) {
                 gameStarted = true;
+                selected |= InputRecorder.LEVEL_2;
             }
 
-            if (input.wasPressed(Keys.NUM_3)) {
-                levelManager.loadLevel(3, IOUtils.readCsv(gameProps.getProperty("level3File")));
+            if (input.wasPressed(Keys.NUM_3) && loadLevel(3)) {
                 gameStarted = true;
+                selected |= InputRecorder.LEVEL_3;
+            }
+
+            /**
+             * Time spent loading and on the start screen is not caught up with.
+             */
+            if (gameStarted) {
+                timestep.reset();
+                recorder.record(selected);
             }
         }
 
@@ -87,6 +150,19 @@ public class ShadowMario extends AbstractGame {
          */
         if (gameStarted) {
 
+            /**
+             * Run the state updates due this frame, stopping once a lose/win condition is reached.
+             */
+            if (!levelManager.checkWinLose()) {
+                gameInput.wrap(input);
+                int ticks = timestep.advance(System.nanoTime());
+                for (int i = 0; i < ticks && !levelManager.checkWinLose(); i++) {
+                    recorder.record(InputRecorder.mask(gameInput));
+                    levelManager.update(gameInput);
+                    gameInput.consumePresses();
+                }
+            }
+
             /**
              * If lose/win condition is reached, render the appropriate message screen.
              */
@@ -101,24 +177,35 @@ public class ShadowMario extends AbstractGame {
                  * Restart game by resetting game objects.
                  */
                 if (input.wasPressed(Keys.SPACE)){
+                    recorder.record(InputRecorder.RESTART);
                     levelManager.reset();
                     gameStarted = false;
                 }
 
             } else {
                 /**
-                 * Perform state update of the game, including checking for collisions, moving objects, and rendering
-                 * objects and the game screen.
+                 * Render objects and the game screen.
                  */
-                levelManager.checkCollisions();
-                levelManager.getPlayer().checkBossActivated(levelManager.getEnemyBoss());
-                levelManager.moveObjects(input);
+                long time = System.nanoTime();
                 display.renderGameScreen(levelManager.getPlayer(), levelManager.getEnemyBoss());
-                levelManager.renderObjects();
+                time = profiler.record(FrameProfiler.GAME_SCREEN, time);
+                levelManager.renderObjects(timestep.getAlpha());
+                profiler.record(FrameProfiler.RENDER_OBJECTS, time);
             }
 
         }
 
+        /**
+         * P toggles the overlay of phase timings, which is drawn on top of every screen.
+         */
+        if (input.wasPressed(Keys.P)) {
+            profiler.toggleOverlay();
+        }
+        if (profiler.isOverlayVisible()) {
+            display.renderProfiler(profiler, levelManager);
+        }
+        profiler.record(FrameProfiler.FRAME, frameStart);
+
         /**
          * If Escape key is pressed, exit window.
          */
@@ -1,30 +1,24 @@
-import bagel.util.Point;
-
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Properties;
-
 /**
  * An interface to give the ability to shoot fireballs towards another Shootable target.
  */
 
 public interface Shootable {
     /**
-     * Method to shoot fireball towards a target by constructing a new fireball object.
+     * Method to shoot fireball towards a target by launching a fireball from the pool.
      * @param target: Shootable object.
      */
     void shootFireball(Shootable target);
 
     /**
      * Method to update fireball objects.
+     * @param camera: Camera object of the current view, fireballs are removed once they leave it.
      */
-    void updateFireballs();
+    void updateFireballs(Camera camera);
 
     /**
-     * Getter for list of fireballs existing.
-     * @return list of fireballs.
+     * Getter for pool of fireballs existing.
+     * @return pool of fireballs, only those in flight are accessible.
      */
-    List<Fireball> getFireballs();
+    FireballPool getFireballs();
 
 }
@@ -0,0 +1,133 @@
+import bagel.Keys;
+
+/**
+ * A class to run the game logic of a level without a window or graphics context.
+ * The simulation steps the same LevelManager state update as the windowed game, reading keyboard state from a
+ * synthetic GameInput instead of bagel's Input. No Image, Font or Window is ever created.
+ */
+public class Simulation {
+    private final LevelManager levelManager;
+    private long ticks;
+    private boolean finished;
+
+    /**
+     * Constructor for Simulation object.
+     * @param config: GameConfig object to pass onto object constructors.
+     * @param level: game level to simulate.
+     * @param levelData: CSVData object of initial object positions.
+     */
+    public Simulation(GameConfig config, int level, CSVData levelData) {
+        levelManager = new LevelManager(config);
+        levelManager.loadLevel(level, levelData);
+        ticks = 0;
+        finished = false;
+    }
+
+    /**
+     * Performs a single state update, following the same order as ShadowMario.update.
+     * @param input: synthetic keyboard input for this state update.
+     * @return boolean value, true while the level is still being played.
+     */
+    public boolean step(GameInput input) {
+        if (finished) {
+            return false;
+        }
+        if (levelManager.checkWinLose()) {
+            finished = true;
+            return false;
+        }
+        levelManager.update(input);
+        ticks++;
+        return true;
+    }
+
+    /**
+     * Steps the simulation until the level is finished or the tick limit is reached.
+     * @param input: synthetic keyboard input, advanced after every state update.
+     * @param maxTicks: maximum number of state updates to perform.
+     * @return number of state updates performed.
+     */
+    public long run(ScriptedInput input, long maxTicks) {
+        long start = ticks;
+        while (ticks - start < maxTicks && step(input)) {
+            input.advance();
+        }
+        return ticks - start;
+    }
+
+    /**
+     * Getter for number of state updates performed.
+     * @return long value of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Getter for finished flag.
+     * @return boolean value, true once a win or lose condition is reached.
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Getter for LevelManager object.
+     * @return LevelManager to give access to game object state.
+     */
+    public LevelManager getLevelManager() {
+        return levelManager;
+    }
+
+    /**
+     * Plays a level with RIGHT held, jumping every 40 and shooting every 25 state updates, until it is finished or
+     * the tick limit is reached.
+     * @param config: GameConfig object to pass onto object constructors.
+     * @param level: game level to play.
+     * @param levelData: CSVData object of initial object positions.
+     * @param maxTicks: maximum number of state updates to perform.
+     * @return Simulation object of the playthrough.
+     */
+    public static Simulation playScripted(GameConfig config, int level, CSVData levelData, long maxTicks) {
+        Simulation simulation = new Simulation(config, level, levelData);
+        ScriptedInput input = new ScriptedInput();
+        input.hold(Keys.RIGHT);
+        while (simulation.getTicks() < maxTicks && !simulation.isFinished()) {
+            if (simulation.getTicks() % 40 == 0) {
+                input.press(Keys.UP);
+            }
+            if (simulation.getTicks() % 25 == 0) {
+                input.press(Keys.S);
+            }
+            simulation.run(input, 1);
+        }
+        return simulation;
+    }
+
+    /**
+     * Entry point to measure simulation throughput without a window.
+     * Plays the level repeatedly with playScripted, until the tick budget is spent.
+     * @param args: optional level number (default 1) and total number of ticks (default 1000000).
+     */
+    public static void main(String[] args) {
+        int level = args.length > 0 ? Integer.parseInt(args[0]) : 1;
+        long totalTicks = args.length > 1 ? Long.parseLong(args[1]) : 1_000_000L;
+
+        GameConfig config = new GameConfig(IOUtils.readPropertiesFile("res/app.properties"),
+                IOUtils.readPropertiesFile("res/message_en.properties"));
+        CSVData levelData = IOUtils.readLevel(config.getLevelFile(level));
+        System.out.println("Random seed: " + config.getRandomSeed());
+
+        long ticks = 0;
+        int playthroughs = 0;
+        long startTime = System.nanoTime();
+        while (ticks < totalTicks) {
+            ticks += playScripted(config, level, levelData, totalTicks - ticks).getTicks();
+            playthroughs++;
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+
+        System.out.printf("Level %d: %d ticks, %d playthroughs in %.3f s (%.0f ticks/s)%n",
+                level, ticks, playthroughs, seconds, ticks / seconds);
+    }
+}
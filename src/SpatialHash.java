@@ -0,0 +1,223 @@
+import java.util.Arrays;
+
+/**
+ * A uniform grid spatial hash used as the broad phase of collision detection.
+ * Space is divided into square cells, and each cell is hashed into a fixed table of buckets. Every bucket is a
+ * doubly linked list stored in int arrays, so inserting, moving and querying objects never allocates once the
+ * grid has been built. Objects report their moves through GameObject.translate and setPosition, and are only
+ * relinked when they cross into a different bucket. Removed objects return their id to a free list that later
+ * insertions reuse.
+ */
+public class SpatialHash {
+    private static final int NONE = -1;
+    private final double cellSize;
+    private final int mask;
+    private final int[] head;
+    private GameObject[] objects;
+    private int[] category, bucket, next, prev;
+    private int size, used;
+    private int freeHead = NONE; // ids of removed objects, chained through next
+    private double maxRadius;
+
+    private GameObject[] results = new GameObject[16];
+    private int[] resultCategories = new int[16];
+    private int resultCount;
+    private int[] visitedBuckets = new int[16];
+
+    /**
+     * Constructor for SpatialHash object.
+     * @param cellSize: double value of cell width and height in pixels.
+     * @param expectedObjects: number of objects expected, used to size the bucket table.
+     */
+    public SpatialHash(double cellSize, int expectedObjects) {
+        this.cellSize = cellSize;
+        int buckets = Integer.highestOneBit(Math.max(16, expectedObjects * 2 - 1)) << 1;
+        mask = buckets - 1;
+        head = new int[buckets];
+        Arrays.fill(head, NONE);
+        int capacity = Math.max(16, expectedObjects);
+        objects = new GameObject[capacity];
+        category = new int[capacity];
+        bucket = new int[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+    }
+
+    /**
+     * Inserts a Collidable game object into the grid.
+     * @param object: GameObject implementing Collidable.
+     * @param objectCategory: int tag returned with the object by queries, used to tell object types apart.
+     */
+    public void insert(GameObject object, int objectCategory) {
+        if (!(object instanceof Collidable)) {
+            throw new IllegalArgumentException("Only Collidable objects can be inserted into the grid");
+        }
+        int id;
+        if (freeHead != NONE) {
+            id = freeHead;
+            freeHead = next[id];
+        } else {
+            if (used == objects.length) {
+                grow();
+            }
+            id = used++;
+        }
+        size++;
+        objects[id] = object;
+        category[id] = objectCategory;
+        maxRadius = Math.max(maxRadius, ((Collidable) object).getRadius());
+        link(id, bucketOf(object.getX(), object.getY()));
+        object.attachToGrid(this, id);
+    }
+
+    /**
+     * Removes an object from the grid so that queries no longer return it.
+     * Called by GameObject when it stops being collidable.
+     * @param id: grid id of the object.
+     */
+    public void remove(int id) {
+        unlink(id);
+        objects[id] = null;
+        next[id] = freeHead;
+        freeHead = id;
+        size--;
+    }
+
+    /**
+     * Updates the bucket of an object after it has moved.
+     * Called by GameObject whenever its position changes.
+     * @param id: grid id of the object.
+     * @param x: double value of new X position.
+     * @param y: double value of new Y position.
+     */
+    public void moved(int id, double x, double y) {
+        int newBucket = bucketOf(x, y);
+        if (newBucket != bucket[id]) {
+            unlink(id);
+            link(id, newBucket);
+        }
+    }
+
+    /**
+     * Finds all objects whose cells lie within range of a point.
+     * The candidates are only a broad phase, callers still need to check each for an actual collision.
+     * @param x: double value of X position.
+     * @param y: double value of Y position.
+     * @param radius: double value of the querying object's radius.
+     * @return number of candidates, accessed through getResult and getResultCategory.
+     */
+    public int query(double x, double y, double radius) {
+        resultCount = 0;
+        double range = radius + maxRadius;
+        int minCellX = cell(x - range), maxCellX = cell(x + range);
+        int minCellY = cell(y - range), maxCellY = cell(y + range);
+        int visitedCount = 0;
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                int b = hash(cellX, cellY);
+
+                /**
+                 * Different cells can share a bucket, only visit each bucket once per query.
+                 */
+                boolean visited = false;
+                for (int i = 0; i < visitedCount; i++) {
+                    if (visitedBuckets[i] == b) {
+                        visited = true;
+                        break;
+                    }
+                }
+                if (visited) {
+                    continue;
+                }
+                if (visitedCount == visitedBuckets.length) {
+                    visitedBuckets = Arrays.copyOf(visitedBuckets, visitedCount * 2);
+                }
+                visitedBuckets[visitedCount++] = b;
+
+                for (int id = head[b]; id != NONE; id = next[id]) {
+                    addResult(id);
+                }
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Getter for a candidate of the last query.
+     * @param index: index of candidate, less than the count returned by query.
+     * @return GameObject candidate.
+     */
+    public GameObject getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Getter for the category of a candidate of the last query.
+     * @param index: index of candidate, less than the count returned by query.
+     * @return int category given on insertion.
+     */
+    public int getResultCategory(int index) {
+        return resultCategories[index];
+    }
+
+    /**
+     * Getter for number of objects in the grid.
+     * @return int value of size.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void addResult(int id) {
+        if (resultCount == results.length) {
+            results = Arrays.copyOf(results, resultCount * 2);
+            resultCategories = Arrays.copyOf(resultCategories, resultCount * 2);
+        }
+        results[resultCount] = objects[id];
+        resultCategories[resultCount] = category[id];
+        resultCount++;
+    }
+
+    private void link(int id, int b) {
+        bucket[id] = b;
+        prev[id] = NONE;
+        next[id] = head[b];
+        if (head[b] != NONE) {
+            prev[head[b]] = id;
+        }
+        head[b] = id;
+    }
+
+    private void unlink(int id) {
+        if (prev[id] != NONE) {
+            next[prev[id]] = next[id];
+        } else {
+            head[bucket[id]] = next[id];
+        }
+        if (next[id] != NONE) {
+            prev[next[id]] = prev[id];
+        }
+    }
+
+    private void grow() {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        category = Arrays.copyOf(category, capacity);
+        bucket = Arrays.copyOf(bucket, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+    }
+
+    private int cell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    private int bucketOf(double x, double y) {
+        return hash(cell(x), cell(y));
+    }
+
+    private int hash(int cellX, int cellY) {
+        return ((cellX * 73856093) ^ (cellY * 19349663)) & mask;
+    }
+}
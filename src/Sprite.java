@@ -0,0 +1,116 @@
+import bagel.Image;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A class representing the image of a game object.
+ * The bagel Image is only created on the first draw, so game objects can be constructed and updated without a
+ * window. The dimensions are read from the image file header, which does not need a graphics context.
+ */
+public class Sprite {
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    private final int id;
+    private final String imagePath;
+    private Image image;
+    private volatile double width = -1, height = -1; // read lazily, possibly by a loading thread
+
+    /**
+     * Constructor for Sprite object.
+     * @param imagePath: String of path to image.
+     */
+    public Sprite(String imagePath) {
+        this.imagePath = imagePath;
+        this.id = NEXT_ID.getAndIncrement();
+    }
+
+    /**
+     * Draws the image centred at the given position, loading it on first use.
+     * @param x: double value of X position.
+     * @param y: double value of Y position.
+     */
+    public void draw(double x, double y) {
+        load();
+        image.draw(x, y);
+    }
+
+    /**
+     * Loads the image if it has not been loaded yet.
+     * Must be called on the thread that owns the graphics context, e.g. to load images before they are first drawn.
+     */
+    public void load() {
+        if (image == null) {
+            image = new Image(imagePath);
+        }
+    }
+
+    /**
+     * Getter for image width.
+     * @return double value of width in pixels.
+     */
+    public double getWidth() {
+        if (width < 0) {
+            readDimensions();
+        }
+        return width;
+    }
+
+    /**
+     * Getter for image height.
+     * Used to check if an object has moved out of the window.
+     * @return double value of height in pixels.
+     */
+    public double getHeight() {
+        if (height < 0) {
+            readDimensions();
+        }
+        return height;
+    }
+
+    /**
+     * Getter for sprite id.
+     * Used by the RenderQueue to group draws by texture.
+     * @return int value of id, unique per sprite.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Getter for image path.
+     * @return String of path to image.
+     */
+    public String getImagePath() {
+        return imagePath;
+    }
+
+    /**
+     * Helper function to read the image dimensions from the file header without decoding the pixels.
+     */
+    private synchronized void readDimensions() {
+        if (width >= 0) {
+            return;
+        }
+        try (ImageInputStream in = ImageIO.createImageInputStream(new File(imagePath))) {
+            Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+            if (readers == null || !readers.hasNext()) {
+                throw new IllegalArgumentException("Unsupported image file: " + imagePath);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in);
+                height = reader.getHeight(0);
+                width = reader.getWidth(0); // set last, a width of zero or more means both are read
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read image file: " + imagePath, e);
+        }
+    }
+}
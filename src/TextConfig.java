@@ -0,0 +1,33 @@
+import java.util.Properties;
+
+/**
+ * A class holding the font size and screen position of a piece of text on the game screens.
+ * Coordinates a text element does not define default to zero.
+ */
+public class TextConfig {
+    private final int fontSize, x, y;
+
+    /**
+     * Constructor for TextConfig object.
+     * @param props: Properties object containing the text layout.
+     * @param name: String of text element name, e.g. "score".
+     */
+    public TextConfig(Properties props, String name) {
+        fontSize = GameConfig.parseInt(props, name + ".fontSize");
+        x = GameConfig.parseInt(props, name + ".x", 0);
+        y = GameConfig.parseInt(props, name + ".y", 0);
+    }
+
+    /**
+     * Getters for font size and position.
+     */
+    public int getFontSize() {
+        return fontSize;
+    }
+    public int getX() {
+        return x;
+    }
+    public int getY() {
+        return y;
+    }
+}
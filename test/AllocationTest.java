@@ -0,0 +1,43 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Properties;
+
+/**
+ * Tests that state updates allocate no heap memory once the game has warmed up.
+ * Plays a level a number of times with Simulation.playScripted, so that every code path of the level
+ * is loaded and compiled, then plays it once more and fails if any state update of that playthrough allocated.
+ * A state update that allocates eventually causes a garbage collection pause, seen as a stutter in the game.
+ */
+public class AllocationTest {
+    private static final long SEED = 20003;
+    private static final int WARM_UPS = 20;
+    private static final long MAX_TICKS = 100_000L;
+
+    /**
+     * Checks a single level, skipped if allocation can not be measured on this JVM.
+     * The random seed is fixed, so every run plays the same level and a failure can be reproduced.
+     * @param level: game level to play.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    public void stateUpdatesDoNotAllocate(int level) {
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        gameProps.setProperty("randomSeed", Long.toString(SEED));
+        GameConfig config = new GameConfig(gameProps, IOUtils.readPropertiesFile("res/message_en.properties"));
+        CSVData levelData = IOUtils.readLevel(config.getLevelFile(level));
+
+        for (int i = 0; i < WARM_UPS; i++) {
+            Simulation.playScripted(config, level, levelData, MAX_TICKS);
+        }
+        FrameProfiler profiler = Simulation.playScripted(config, level, levelData, MAX_TICKS).getLevelManager()
+                .getProfiler();
+        Assumptions.assumeTrue(profiler.isAllocationMeasured(), "Allocation can not be measured on this JVM");
+
+        Assertions.assertEquals(0, profiler.getAllocatingTicks(), () -> String.format(
+                "Level %d: %d bytes allocated in %d of %d state updates after %d warm up playthroughs", level,
+                profiler.getAllocatedBytes(), profiler.getAllocatingTicks(), profiler.getTicks(), WARM_UPS));
+    }
+}